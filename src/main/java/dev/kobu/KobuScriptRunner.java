@@ -3,10 +3,13 @@ package dev.kobu;
 import dev.kobu.config.Project;
 import dev.kobu.config.ProjectReader;
 import dev.kobu.database.Database;
+import dev.kobu.database.RuleProfiler;
+import dev.kobu.database.index.impl.ConflictResolutionStrategy;
 import dev.kobu.interpreter.ast.AnalyzerContext;
 import dev.kobu.interpreter.ast.eval.context.EvalContextProvider;
 import dev.kobu.interpreter.ast.eval.context.EvalModeEnum;
 import dev.kobu.interpreter.ast.symbol.ModuleScope;
+import dev.kobu.interpreter.ast.template.TemplateCache;
 import dev.kobu.interpreter.ast.utils.ErrorMessageFormatter;
 import dev.kobu.interpreter.codec.CodecNativeFunctionRegistry;
 import dev.kobu.interpreter.codec.FileFetcher;
@@ -21,6 +24,7 @@ import dev.kobu.interpreter.module.ModuleLoader;
 
 import java.io.File;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -36,6 +40,8 @@ public class KobuScriptRunner {
 
     private String commandOutDir;
 
+    private RuleProfiler profiler;
+
     public KobuScriptRunner(KobuFileSystem fileSystem, KobuFile scriptFile, List<String> arguments) {
         this.fileSystem = fileSystem;
         this.scriptFile = scriptFile;
@@ -54,6 +60,10 @@ public class KobuScriptRunner {
         this.commandOutDir = commandOutDir;
     }
 
+    public void setProfiler(RuleProfiler profiler) {
+        this.profiler = profiler;
+    }
+
     public int run(PrintStream out, PrintStream err) {
         Project project = null;
         try {
@@ -78,6 +88,9 @@ public class KobuScriptRunner {
             }
 
             Database database = new Database();
+            database.setParallelAgenda(project.parallelAgenda());
+            database.setConflictResolution(ConflictResolutionStrategy.fromName(project.conflictResolution()));
+            database.setProfiler(profiler);
             InputReader inputReader = new InputReader(new FileFetcher());
             OutputWriter outputWriter = new OutputWriter(out, err);
             EvalContextProvider evalContextProvider = new EvalContextProvider(EvalModeEnum.EXECUTION, fileSystem,
@@ -96,8 +109,20 @@ public class KobuScriptRunner {
                 throw new AnalyzerErrorList(errors);
             }
 
+            TemplateCache templateCache = null;
+            if (project.templateCache()) {
+                Path cacheDir = Path.of(project.getProjectDirectory().getAbsolutePath(), TemplateCache.CACHE_DIR);
+                templateCache = new TemplateCache(cacheDir, moduleScope.getModuleId(),
+                        moduleLoader.getSourceFingerprint());
+                database.setTemplateCache(templateCache);
+            }
+
             moduleScope.runMainFunction(analyzerContext, evalContextProvider, arguments);
 
+            if (templateCache != null) {
+                templateCache.prune();
+            }
+
         } catch (ParserErrorList e) {
             for (ParserError error : e.getErrors()) {
                 err.println(ErrorMessageFormatter.getMessage(error, project));
@@ -31,6 +31,12 @@ import java.util.List;
 
 public class Project {
 
+    public static final String PARALLEL_AGENDA_PROPERTY = "kobu.parallelAgenda";
+
+    public static final String CONFLICT_RESOLUTION_PROPERTY = "kobu.conflictResolution";
+
+    public static final String TEMPLATE_CACHE_PROPERTY = "kobu.templateCache";
+
     private String name;
 
     private String version;
@@ -120,4 +126,27 @@ public class Project {
     public void setErrors(List<ProjectError> errors) {
         this.errors = errors;
     }
+
+    public String getProperty(String name) {
+        if (properties != null) {
+            for (ProjectProperty property : properties) {
+                if (name.equals(property.getName())) {
+                    return property.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    public boolean parallelAgenda() {
+        return Boolean.parseBoolean(getProperty(PARALLEL_AGENDA_PROPERTY));
+    }
+
+    public String conflictResolution() {
+        return getProperty(CONFLICT_RESOLUTION_PROPERTY);
+    }
+
+    public boolean templateCache() {
+        return Boolean.parseBoolean(getProperty(TEMPLATE_CACHE_PROPERTY));
+    }
 }
@@ -24,6 +24,7 @@ SOFTWARE.
 
 package dev.kobu.database;
 
+import dev.kobu.database.index.impl.ConflictResolutionStrategy;
 import dev.kobu.interpreter.ast.AnalyzerContext;
 import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.eval.context.EvalContext;
@@ -33,14 +34,16 @@ import dev.kobu.interpreter.ast.eval.expr.value.RecordValueExpr;
 import dev.kobu.interpreter.ast.eval.expr.value.TemplateValueExpr;
 import dev.kobu.interpreter.ast.eval.expr.value.TupleValueExpr;
 import dev.kobu.interpreter.ast.symbol.RuleSymbol;
+import dev.kobu.interpreter.ast.template.TemplateCache;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Database {
 
-    private int nextRecordId = 1;
+    private final AtomicInteger nextRecordId = new AtomicInteger(1);
 
-    private int nextMatchId = 1;
+    private final AtomicInteger nextMatchId = new AtomicInteger(1);
 
     private final RuleIndex ruleIndex = new RuleIndex();
 
@@ -50,9 +53,15 @@ public class Database {
 
     private final Queue<Fact> buffer = new LinkedList<>();
 
-    private final Map<Integer, Fact> factMap = new LinkedHashMap<>();
+    private final Queue<Fact> retractBuffer = new LinkedList<>();
 
-    private final Map<Integer, List<Fact>> factByCreatorMap = new HashMap<>();
+    private final IntMap<Fact> factMap = new IntMap<>();
+
+    private final IntMap<List<Fact>> factByCreatorMap = new IntMap<>();
+
+    private final BitSet insertedFacts = new BitSet();
+
+    private final BitSet retractedFacts = new BitSet();
 
     private int iteration = 0;
 
@@ -60,17 +69,60 @@ public class Database {
 
     private boolean running;
 
+    private boolean parallelAgenda;
+
+    private RuleProfiler profiler;
+
+    private TemplateCache templateCache;
+
+    private final ThreadLocal<List<Fact>> factCollector = new ThreadLocal<>();
+
     public int generateRecordId() {
-        return nextRecordId++;
+        return nextRecordId.getAndIncrement();
     }
 
     public int generateMatchId() {
-        return nextMatchId++;
+        return nextMatchId.getAndIncrement();
+    }
+
+    public boolean isParallelAgenda() {
+        return parallelAgenda;
+    }
+
+    public void setParallelAgenda(boolean parallelAgenda) {
+        this.parallelAgenda = parallelAgenda;
+    }
+
+    public TemplateCache getTemplateCache() {
+        return templateCache;
+    }
+
+    public void setTemplateCache(TemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
+
+    public RuleProfiler getProfiler() {
+        return profiler;
+    }
+
+    public void setProfiler(RuleProfiler profiler) {
+        this.profiler = profiler;
+        ruleIndex.setProfiler(profiler);
+        templateIndex.setProfiler(profiler);
+        actionIndex.setProfiler(profiler);
+    }
+
+    public void setConflictResolution(ConflictResolutionStrategy strategy) {
+        ruleIndex.setConflictResolution(strategy);
+        templateIndex.setConflictResolution(strategy);
+        actionIndex.setConflictResolution(strategy);
     }
 
     public void clear() {
         buffer.clear();
+        retractBuffer.clear();
         factMap.clear();
+        factByCreatorMap.clear();
         ruleIndex.clear();
         templateIndex.clear();
         actionIndex.clear();
@@ -98,17 +150,26 @@ public class Database {
     }
 
     public void insertFact(Fact newFact) {
+        List<Fact> collector = factCollector.get();
+        if (collector != null) {
+            collector.add(newFact);
+            return;
+        }
+
         buffer.add(newFact);
         newFact.setIteration(iteration);
 
         List<Fact> facts = factByCreatorMap.computeIfAbsent(newFact.getCreatorId(), k -> new ArrayList<>());
-        facts.removeIf(f -> {
-            if (newFact.overrides(f)) {
-                factMap.remove(f.getId());
-                return true;
-            }
-            return false;
-        });
+        if (newFact.getOriginRule() != null) {
+            facts.removeIf(f -> {
+                if (newFact.overrides(f)) {
+                    factMap.remove(f.getId());
+                    retractBuffer.add(f);
+                    return true;
+                }
+                return false;
+            });
+        }
         facts.add(newFact);
     }
 
@@ -126,29 +187,54 @@ public class Database {
 
         while (currentStep != null) {
             iteration++;
+            long startTime = profiler != null ? System.nanoTime() : 0;
+
+            RuleIndex currentIndex = getCurrentIndex();
+            if (currentIndex == null) return;
+            processRetractBuffer(currentIndex);
 
             Queue<Fact> queue = new LinkedList<>();
             processBuffer(queue, buffer);
 
             Fact fact;
-            RuleIndex currentIndex = getCurrentIndex();
-            if (currentIndex == null) return;
             while ((fact = queue.poll()) != null) {
                 currentIndex.insertFact(fact);
             }
 
-            currentIndex.run();
+            if (parallelAgenda && currentStep == RuleStepEnum.TEMPLATE) {
+                currentIndex.runParallel(this);
+            } else {
+                currentIndex.run();
+            }
             if (!buffer.isEmpty()) {
+                addStepTime(startTime);
                 continue;
             }
 
+            addStepTime(startTime);
+
             currentIndex.clear();
+            retractBuffer.clear();
             currentStep = currentStep.next();
             buffer.addAll(factMap.values());
         }
         running = false;
     }
 
+    private void addStepTime(long startTime) {
+        if (profiler != null) {
+            profiler.addStepTime(currentStep, System.nanoTime() - startTime);
+        }
+    }
+
+    void collectFacts(List<Fact> facts) {
+        if (facts != null) {
+            factCollector.set(facts);
+        } else {
+            factCollector.remove();
+        }
+    }
+
     private RuleIndex getCurrentIndex() {
         switch (currentStep) {
             case RULE:
@@ -170,8 +256,45 @@ public class Database {
         return currentStep;
     }
 
+    private void processRetractBuffer(RuleIndex currentIndex) {
+        retractedFacts.clear();
+        Fact fact;
+        while ((fact = retractBuffer.poll()) != null) {
+            if (fact instanceof RecordValueExpr) {
+                retractRecord(currentIndex, (RecordValueExpr) fact, fact.getCreatorId());
+            } else if (mark(retractedFacts, fact.getId())) {
+                currentIndex.retractFact(fact);
+            }
+        }
+    }
+
+    private void retractRecord(RuleIndex currentIndex, RecordValueExpr record, int creatorId) {
+        if (record.getCreatorId() != creatorId || !mark(retractedFacts, record.getId())) {
+            return;
+        }
+        currentIndex.retractFact(record);
+
+        for (ValueExpr value : record.getValues()) {
+            if (value instanceof RecordValueExpr) {
+                retractRecord(currentIndex, (RecordValueExpr) value, creatorId);
+            } else if (value instanceof ArrayValueExpr) {
+                for (ValueExpr arrayItem : ((ArrayValueExpr) value).getValue()) {
+                    if (arrayItem instanceof RecordValueExpr) {
+                        retractRecord(currentIndex, (RecordValueExpr) arrayItem, creatorId);
+                    }
+                }
+            } else if (value instanceof TupleValueExpr) {
+                for (ValueExpr valueExpr : ((TupleValueExpr) value).getValueExprList()) {
+                    if (valueExpr instanceof RecordValueExpr) {
+                        retractRecord(currentIndex, (RecordValueExpr) valueExpr, creatorId);
+                    }
+                }
+            }
+        }
+    }
+
     private void processBuffer(Queue<Fact> queue, Queue<Fact> buffer) {
-        Set<Integer> insertedFacts = new HashSet<>();
+        insertedFacts.clear();
         Fact fact;
         while ((fact = buffer.poll()) != null) {
             if (fact instanceof RecordValueExpr) {
@@ -180,7 +303,7 @@ public class Database {
                     factMap.put(record.getId(), record);
                     factByCreatorMap.computeIfAbsent(record.getCreatorId(), k -> new ArrayList<>()).add(record);
                 }
-                processRecord(queue, record, insertedFacts);
+                processRecord(queue, record);
             } else if (fact instanceof TemplateValueExpr) {
                 TemplateValueExpr templateValue = (TemplateValueExpr) fact;
                 if (!factMap.containsKey(templateValue.getId())) {
@@ -188,29 +311,29 @@ public class Database {
                     factByCreatorMap.computeIfAbsent(templateValue.getCreatorId(), k -> new ArrayList<>())
                             .add(templateValue);
                 }
-                processTemplate(queue, templateValue, insertedFacts);
+                processTemplate(queue, templateValue);
             }
         }
     }
 
-    private void processRecord(Queue<Fact> queue, RecordValueExpr record, Set<Integer> insertedFacts) {
-        if (insertedFacts.add(record.getId())) {
+    private void processRecord(Queue<Fact> queue, RecordValueExpr record) {
+        if (mark(insertedFacts, record.getId())) {
             queue.add(record);
 
             for (ValueExpr value : record.getValues()) {
                 if (value instanceof RecordValueExpr) {
-                    processRecord(queue, (RecordValueExpr) value, insertedFacts);
+                    processRecord(queue, (RecordValueExpr) value);
                 } else if (value instanceof ArrayValueExpr) {
                     for (ValueExpr arrayItem : ((ArrayValueExpr) value).getValue()) {
                         if (arrayItem instanceof RecordValueExpr) {
-                            processRecord(queue, (RecordValueExpr) arrayItem, insertedFacts);
+                            processRecord(queue, (RecordValueExpr) arrayItem);
                         }
                     }
                 } else if (value instanceof TupleValueExpr) {
                     TupleValueExpr tupleValue = (TupleValueExpr) value;
                     for (ValueExpr valueExpr : tupleValue.getValueExprList()) {
                         if (valueExpr instanceof RecordValueExpr) {
-                            processRecord(queue, (RecordValueExpr) valueExpr, insertedFacts);
+                            processRecord(queue, (RecordValueExpr) valueExpr);
                         }
                     }
                 }
@@ -218,9 +341,17 @@ public class Database {
         }
     }
 
-    private void processTemplate(Queue<Fact> queue, TemplateValueExpr template, Set<Integer> insertedFacts) {
-        if (insertedFacts.add(template.getId())) {
+    private void processTemplate(Queue<Fact> queue, TemplateValueExpr template) {
+        if (mark(insertedFacts, template.getId())) {
             queue.add(template);
         }
     }
+
+    private static boolean mark(BitSet set, int id) {
+        if (set.get(id)) {
+            return false;
+        }
+        set.set(id);
+        return true;
+    }
 }
@@ -0,0 +1,250 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.database;
+
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+public class IntMap<V> {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private static final int EMPTY = -1;
+
+    private int[] table;
+
+    private int[] keys;
+
+    private Object[] values;
+
+    private int count;
+
+    private int size;
+
+    public IntMap() {
+        init(INITIAL_CAPACITY);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return table[findSlot(key)] != EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int entry = table[findSlot(key)];
+        return entry != EMPTY ? (V) values[entry] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        Objects.requireNonNull(value);
+        int slot = findSlot(key);
+        int entry = table[slot];
+        if (entry != EMPTY) {
+            V oldValue = (V) values[entry];
+            values[entry] = value;
+            return oldValue;
+        }
+        addEntry(slot, key, value);
+        return null;
+    }
+
+    public V computeIfAbsent(int key, IntFunction<V> mappingFunction) {
+        int slot = findSlot(key);
+        int entry = table[slot];
+        if (entry != EMPTY) {
+            @SuppressWarnings("unchecked")
+            V value = (V) values[entry];
+            return value;
+        }
+        V value = Objects.requireNonNull(mappingFunction.apply(key));
+        addEntry(slot, key, value);
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = findSlot(key);
+        int entry = table[slot];
+        if (entry == EMPTY) {
+            return null;
+        }
+        V oldValue = (V) values[entry];
+        values[entry] = null;
+        size--;
+        deleteSlot(slot);
+        return oldValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<V> filter) {
+        boolean removed = false;
+        for (int i = 0; i < count; i++) {
+            if (values[i] != null && filter.test((V) values[i])) {
+                values[i] = null;
+                size--;
+                deleteSlot(findSlot(keys[i]));
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    public void clear() {
+        if (count > 0) {
+            init(INITIAL_CAPACITY);
+        }
+    }
+
+    public Collection<V> values() {
+        return new AbstractCollection<>() {
+
+            @Override
+            public Iterator<V> iterator() {
+                return new ValueIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+        };
+    }
+
+    private void init(int capacity) {
+        table = new int[capacity * 2];
+        Arrays.fill(table, EMPTY);
+        keys = new int[capacity];
+        values = new Object[capacity];
+        count = 0;
+        size = 0;
+    }
+
+    private void addEntry(int slot, int key, V value) {
+        if (count == keys.length) {
+            resize();
+            slot = findSlot(key);
+        }
+        keys[count] = key;
+        values[count] = value;
+        table[slot] = count;
+        count++;
+        size++;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        int oldCount = count;
+        int capacity = keys.length;
+        if (size * 2 >= capacity) {
+            capacity *= 2;
+        }
+        init(capacity);
+        for (int i = 0; i < oldCount; i++) {
+            if (oldValues[i] != null) {
+                keys[count] = oldKeys[i];
+                values[count] = oldValues[i];
+                table[findSlot(oldKeys[i])] = count;
+                count++;
+            }
+        }
+        size = count;
+    }
+
+    private int findSlot(int key) {
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        int entry;
+        while ((entry = table[slot]) != EMPTY && keys[entry] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void deleteSlot(int slot) {
+        int mask = table.length - 1;
+        int i = slot;
+        int j = slot;
+        while (true) {
+            j = (j + 1) & mask;
+            if (table[j] == EMPTY) {
+                break;
+            }
+            int k = hash(keys[table[j]]) & mask;
+            if (i <= j ? (i < k && k <= j) : (i < k || k <= j)) {
+                continue;
+            }
+            table[i] = table[j];
+            i = j;
+        }
+        table[i] = EMPTY;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private class ValueIterator implements Iterator<V> {
+
+        private int index = advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            if (index >= count) {
+                throw new NoSuchElementException();
+            }
+            V value = (V) values[index];
+            index = advance(index + 1);
+            return value;
+        }
+
+        private int advance(int from) {
+            while (from < count && values[from] == null) {
+                from++;
+            }
+            return from;
+        }
+
+    }
+
+}
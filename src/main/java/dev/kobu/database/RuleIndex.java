@@ -25,17 +25,23 @@ SOFTWARE.
 package dev.kobu.database;
 
 import dev.kobu.database.index.IndexNode;
+import dev.kobu.database.index.impl.Agenda;
+import dev.kobu.database.index.impl.ConflictResolutionStrategy;
 import dev.kobu.database.index.impl.FieldIndexNode;
 import dev.kobu.database.index.impl.JoinIndexNode;
 import dev.kobu.database.index.impl.RootTypeIndexNode;
+import dev.kobu.database.index.impl.RuleActivation;
+import dev.kobu.database.index.impl.RuleInstance;
 import dev.kobu.database.index.impl.RuleIndexNode;
 import dev.kobu.interpreter.ast.AnalyzerContext;
 import dev.kobu.interpreter.ast.eval.context.EvalContextProvider;
 import dev.kobu.interpreter.ast.query.*;
-import dev.kobu.interpreter.ast.symbol.ModuleScope;
-import dev.kobu.interpreter.ast.symbol.RuleSymbol;
+import dev.kobu.interpreter.ast.symbol.*;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 public class RuleIndex {
 
@@ -45,32 +51,56 @@ public class RuleIndex {
 
     private final Map<String, RuleIndexNode> ruleNodeMap = new HashMap<>();
 
+    private final Map<Type, List<RootTypeIndexNode>> typeIndex = new HashMap<>();
+
+    private final Map<Type, List<RootTypeIndexNode>> dispatchMap = new HashMap<>();
+
+    private final Map<List<Object>, IndexNode> sharedNodes = new HashMap<>();
+
+    private final Agenda agenda = new Agenda(ConflictResolutionStrategy.RULE_ORDER);
+
+    private RuleProfiler profiler;
+
+    public void setProfiler(RuleProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    public void setConflictResolution(ConflictResolutionStrategy strategy) {
+        agenda.setStrategy(strategy);
+    }
+
     public void clear() {
         for (RootTypeIndexNode rootTypeIndexNode : index) {
             rootTypeIndexNode.clear();
         }
+        agenda.clear();
     }
 
     public void addRule(EvalContextProvider evalContextProvider, AnalyzerContext analyzerContext, RuleSymbol rule) {
         rules.add(rule);
+        dispatchMap.clear();
 
         Query query = rule.getQuery();
         IndexNode node = addQueryTypeClause(evalContextProvider, analyzerContext,
-                rule.getModuleScope(), query.getTypeClause());
+                rule.getModuleScope(), query.getTypeClause(), rule);
 
         if (query.getExtractors() != null) {
             for (QueryExtractor extractor : query.getExtractors()) {
-                node = addQueryExtractor(evalContextProvider, analyzerContext, node, extractor);
+                node = addQueryExtractor(evalContextProvider, analyzerContext, node, extractor, rule);
             }
         }
 
         if (query.getJoins() != null) {
             for (QueryJoin join : query.getJoins()) {
-                node = addJoin(evalContextProvider, analyzerContext, node, join);
+                node = addJoin(evalContextProvider, analyzerContext, node, join, rule);
             }
         }
 
         RuleIndexNode ruleNode = new RuleIndexNode(rule, query, rule.getBlock());
+        ruleNode.setAgenda(agenda);
+        if (profiler != null) {
+            ruleNode.setRuleStats(profiler.getRuleStats(rule.getFullName()));
+        }
         node.addChild(ruleNode);
         ruleNodeMap.put(rule.getFullName(), ruleNode);
     }
@@ -93,37 +123,192 @@ public class RuleIndex {
             }
             node.setPriority(priority);
         }
+        int order = 0;
+        for (RuleSymbol rule : rules) {
+            ruleNodeMap.get(rule.getFullName()).setOrder(order++);
+        }
+
+        typeIndex.clear();
+        dispatchMap.clear();
+        for (RootTypeIndexNode indexNode : index) {
+            typeIndex.computeIfAbsent(indexNode.getDispatchType(), k -> new ArrayList<>()).add(indexNode);
+        }
     }
 
     public void insertFact(Fact fact) {
-        for (RootTypeIndexNode indexNode : index) {
+        for (RootTypeIndexNode indexNode : getDispatchNodes(fact.getType())) {
             indexNode.receive(fact);
         }
     }
 
+    public void retractFact(Fact fact) {
+        for (RootTypeIndexNode indexNode : getDispatchNodes(fact.getType())) {
+            indexNode.retract(fact);
+        }
+    }
+
     public void run() {
         for (RootTypeIndexNode indexNode : index) {
             indexNode.beforeRun();
         }
-        ruleNodeMap.values().stream()
-            .sorted(Comparator.comparing(RuleIndexNode::getPriority).reversed())
-            .forEach(RuleIndexNode::run);
+        RuleActivation activation;
+        while ((activation = agenda.poll()) != null) {
+            activation.getRuleNode().fire(activation);
+        }
         for (RootTypeIndexNode indexNode : index) {
             indexNode.afterRun();
         }
     }
 
+    public void runParallel(Database database) {
+        for (RootTypeIndexNode indexNode : index) {
+            indexNode.beforeRun();
+        }
+        while (!agenda.isEmpty()) {
+            List<RuleActivation> activations = new ArrayList<>();
+            for (RuleActivation activation : agenda.pollLevel()) {
+                if (activation.getRuleNode().prepare(activation)) {
+                    activations.add(activation);
+                }
+            }
+            runActivations(database, activations);
+        }
+        for (RootTypeIndexNode indexNode : index) {
+            indexNode.afterRun();
+        }
+    }
+
+    private void runActivations(Database database, List<RuleActivation> activations) {
+        if (activations.isEmpty()) {
+            return;
+        }
+
+        Map<RuleInstance, List<RuleActivation>> groups = new LinkedHashMap<>();
+        for (RuleActivation activation : activations) {
+            groups.computeIfAbsent(activation.getRuleInstance(), k -> new ArrayList<>()).add(activation);
+        }
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (List<RuleActivation> group : groups.values()) {
+            futures.add(ForkJoinPool.commonPool().submit(() -> runGroup(database, group)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        for (RuleActivation activation : activations) {
+            for (Fact fact : activation.getFacts()) {
+                database.insertFact(fact);
+            }
+        }
+    }
+
+    private void runGroup(Database database, List<RuleActivation> group) {
+        for (RuleActivation activation : group) {
+            database.collectFacts(activation.getFacts());
+            try {
+                activation.run();
+            } finally {
+                database.collectFacts(null);
+            }
+        }
+    }
+
+    private List<RootTypeIndexNode> getDispatchNodes(Type factType) {
+        if (factType instanceof RecordTypeSymbol && ((RecordTypeSymbol) factType).isParameterized()) {
+            // parameterized types don't inherit the super type of their generic
+            // definition, so only nodes declared with the same type can accept them
+            List<RootTypeIndexNode> nodes = new ArrayList<>();
+            for (RootTypeIndexNode indexNode : typeIndex.getOrDefault(factType, List.of())) {
+                if (indexNode.canDispatch(factType)) {
+                    nodes.add(indexNode);
+                }
+            }
+            return nodes;
+        }
+
+        return dispatchMap.computeIfAbsent(factType, this::resolveDispatchNodes);
+    }
+
+    private List<RootTypeIndexNode> resolveDispatchNodes(Type factType) {
+        Set<Type> types = new HashSet<>();
+        Type type = factType;
+        while (type != null && types.add(type)) {
+            type = getSuperType(type);
+        }
+        if (factType instanceof TemplateTypeSymbol) {
+            types.add(BuiltinScope.ANY_TEMPLATE_TYPE);
+        }
+
+        List<RootTypeIndexNode> nodes = new ArrayList<>();
+        for (RootTypeIndexNode indexNode : index) {
+            if (types.contains(indexNode.getDispatchType()) && indexNode.canDispatch(factType)) {
+                nodes.add(indexNode);
+            }
+        }
+        return nodes;
+    }
+
+    private Type getSuperType(Type type) {
+        if (type instanceof RecordTypeSymbol) {
+            return ((RecordTypeSymbol) type).getSuperType();
+        }
+        if (type instanceof TemplateTypeSymbol) {
+            TemplateSuperType superType = ((TemplateTypeSymbol) type).getSuperType();
+            return superType != null ? superType.getType() : null;
+        }
+        return null;
+    }
+
     private IndexNode addQueryTypeClause(EvalContextProvider evalContextProvider, AnalyzerContext analyzerContext,
-                                         ModuleScope moduleScope, QueryTypeClause queryTypeClause) {
+                                         ModuleScope moduleScope, QueryTypeClause queryTypeClause, RuleSymbol rule) {
 
-        RootTypeIndexNode rootNode = new RootTypeIndexNode(evalContextProvider, analyzerContext, moduleScope, queryTypeClause);
-        this.index.add(rootNode);
+        List<Object> rootKey = null;
+        if (!queryTypeClause.joinMode()) {
+            rootKey = Arrays.asList(evalContextProvider, analyzerContext, moduleScope,
+                    queryTypeClause.getType().getName(), queryTypeClause.includeSubtypes(), queryTypeClause.getBind());
+        }
+
+        IndexNode lastNode = rootKey != null ? sharedNodes.get(rootKey) : null;
+        if (lastNode != null) {
+            share(lastNode, rule);
+        } else {
+            RootTypeIndexNode rootNode = new RootTypeIndexNode(evalContextProvider, analyzerContext, moduleScope, queryTypeClause);
+            this.index.add(rootNode);
+            profile(rootNode, rule, "type " + queryTypeClause.getType().getName(), queryTypeClause.getSourceCodeRef());
+            if (rootKey != null) {
+                sharedNodes.put(rootKey, rootNode);
+            }
+            lastNode = rootNode;
+        }
 
         QueryClause clause = queryTypeClause.getQueryClause();
-        IndexNode lastNode = rootNode;
         while (clause != null) {
-            FieldIndexNode node = new FieldIndexNode(clause);
-            lastNode.addChild(node);
+            List<Object> key = clause.getKey() != null ? Arrays.asList(lastNode, clause.getKey()) : null;
+            IndexNode node = key != null ? sharedNodes.get(key) : null;
+            if (node != null) {
+                share(node, rule);
+            } else {
+                node = new FieldIndexNode(clause);
+                profile(node, rule, "field", clause.getSourceCodeRef());
+                lastNode.addChild((FieldIndexNode) node);
+                if (key != null) {
+                    sharedNodes.put(key, node);
+                }
+            }
             clause = clause.getNext();
             lastNode = node;
         }
@@ -132,12 +317,14 @@ public class RuleIndex {
     }
 
     private IndexNode addQueryExtractor(EvalContextProvider evalContextProvider, AnalyzerContext analyzerContext,
-                                        IndexNode parent, QueryExtractor queryExtractor) {
+                                        IndexNode parent, QueryExtractor queryExtractor, RuleSymbol rule) {
         FieldIndexNode lastNode = new FieldIndexNode(queryExtractor);
+        profile(lastNode, rule, "extractor", queryExtractor.getSourceCodeRef());
         parent.addChild(lastNode);
         QueryClause clause = queryExtractor.getQueryClause().getNext();
         while (clause != null) {
             FieldIndexNode node = new FieldIndexNode(clause);
+            profile(node, rule, "field", clause.getSourceCodeRef());
             lastNode.addChild(node);
             clause = clause.getNext();
             lastNode = node;
@@ -147,13 +334,32 @@ public class RuleIndex {
     }
 
     private IndexNode addJoin(EvalContextProvider evalContextProvider, AnalyzerContext analyzerContext,
-                              IndexNode parent, QueryJoin queryJoin) {
+                              IndexNode parent, QueryJoin queryJoin, RuleSymbol rule) {
         JoinIndexNode node = new JoinIndexNode(queryJoin);
+        profile(node, rule, "join", queryJoin.getSourceCodeRef());
 
         parent.addChild(node.getLeftSlot());
         addQueryTypeClause(evalContextProvider, analyzerContext, queryJoin.getTypeClause().getModuleScope(),
-                queryJoin.getTypeClause()).addChild(node.getRightSlot());
+                queryJoin.getTypeClause(), rule).addChild(node.getRightSlot());
         return node;
     }
 
+    private void profile(IndexNode node, RuleSymbol rule, String description, SourceCodeRef sourceCodeRef) {
+        if (profiler != null) {
+            String name = description;
+            if (sourceCodeRef != null) {
+                name += " @" + sourceCodeRef.getLineStart() + ":" + sourceCodeRef.getCharStart();
+            }
+            RuleProfiler.NodeStats stats = profiler.addNodeStats(name);
+            stats.addRule(rule.getFullName());
+            node.setStats(stats);
+        }
+    }
+
+    private void share(IndexNode node, RuleSymbol rule) {
+        if (node.getStats() != null) {
+            node.getStats().addRule(rule.getFullName());
+        }
+    }
+
 }
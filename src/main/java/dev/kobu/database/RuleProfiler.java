@@ -0,0 +1,205 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.database;
+
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RuleProfiler {
+
+    private final Map<RuleStepEnum, AtomicLong> stepTime = new EnumMap<>(RuleStepEnum.class);
+
+    private final List<NodeStats> nodeStats = new ArrayList<>();
+
+    private final Map<String, RuleStats> ruleStats = new LinkedHashMap<>();
+
+    public NodeStats addNodeStats(String name) {
+        NodeStats stats = new NodeStats(name);
+        nodeStats.add(stats);
+        return stats;
+    }
+
+    public RuleStats getRuleStats(String ruleName) {
+        return ruleStats.computeIfAbsent(ruleName, RuleStats::new);
+    }
+
+    public void addStepTime(RuleStepEnum step, long nanos) {
+        stepTime.computeIfAbsent(step, k -> new AtomicLong()).addAndGet(nanos);
+    }
+
+    public void printReport(PrintStream out) {
+        out.println("== Rule steps ==");
+        for (RuleStepEnum step : RuleStepEnum.values()) {
+            AtomicLong time = stepTime.get(step);
+            out.printf("%-10s %12.3f ms%n", step, millis(time != null ? time.get() : 0));
+        }
+
+        out.println();
+        out.println("== Rules (by time) ==");
+        out.printf("%-50s %12s %12s %14s%n", "rule", "activations", "rejected", "time (ms)");
+        List<RuleStats> rules = new ArrayList<>(ruleStats.values());
+        rules.sort(Comparator.comparingLong(RuleStats::getTime).reversed());
+        for (RuleStats stats : rules) {
+            out.printf("%-50s %12d %12d %14.3f%n", stats.name, stats.getActivations(),
+                    stats.getRejections(), millis(stats.getTime()));
+        }
+
+        out.println();
+        out.println("== Index nodes (by output) ==");
+        out.printf("%-70s %12s %12s%n", "node", "received", "produced");
+        List<NodeStats> nodes = new ArrayList<>(nodeStats);
+        nodes.sort(Comparator.comparingLong(NodeStats::getProduced).reversed());
+        for (NodeStats stats : nodes) {
+            out.printf("%-70s %12d %12d%n", stats.getLabel(), stats.getReceived(), stats.getProduced());
+        }
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"steps\": {");
+        int count = 0;
+        for (RuleStepEnum step : RuleStepEnum.values()) {
+            AtomicLong time = stepTime.get(step);
+            json.append(count++ > 0 ? ", " : "").append('"').append(step).append("\": ")
+                    .append(time != null ? time.get() : 0);
+        }
+        json.append("},\n  \"rules\": [");
+        count = 0;
+        for (RuleStats stats : ruleStats.values()) {
+            json.append(count++ > 0 ? "," : "").append("\n    {\"name\": ").append(quote(stats.name))
+                    .append(", \"activations\": ").append(stats.getActivations())
+                    .append(", \"rejected\": ").append(stats.getRejections())
+                    .append(", \"timeNanos\": ").append(stats.getTime()).append('}');
+        }
+        json.append("\n  ],\n  \"nodes\": [");
+        count = 0;
+        for (NodeStats stats : nodeStats) {
+            json.append(count++ > 0 ? "," : "").append("\n    {\"name\": ").append(quote(stats.name))
+                    .append(", \"rules\": [");
+            int ruleCount = 0;
+            for (String rule : stats.rules) {
+                json.append(ruleCount++ > 0 ? ", " : "").append(quote(rule));
+            }
+            json.append("], \"received\": ").append(stats.getReceived())
+                    .append(", \"produced\": ").append(stats.getProduced()).append('}');
+        }
+        json.append("\n  ]\n}\n");
+        return json.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String quote(String str) {
+        return '"' + str.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    public static class NodeStats {
+
+        private final String name;
+
+        private final Set<String> rules = new LinkedHashSet<>();
+
+        private final LongAdder received = new LongAdder();
+
+        private final LongAdder produced = new LongAdder();
+
+        public NodeStats(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Adds a rule that owns the node. Nodes shared by the rules list all of them.
+         */
+        public void addRule(String ruleName) {
+            rules.add(ruleName);
+        }
+
+        public Set<String> getRules() {
+            return rules;
+        }
+
+        public String getLabel() {
+            return String.join(", ", rules) + " " + name;
+        }
+
+        public void incReceived() {
+            received.increment();
+        }
+
+        public void incProduced() {
+            produced.increment();
+        }
+
+        public long getReceived() {
+            return received.sum();
+        }
+
+        public long getProduced() {
+            return produced.sum();
+        }
+
+    }
+
+    public static class RuleStats {
+
+        private final String name;
+
+        private final AtomicLong activations = new AtomicLong();
+
+        private final AtomicLong rejections = new AtomicLong();
+
+        private final AtomicLong time = new AtomicLong();
+
+        public RuleStats(String name) {
+            this.name = name;
+        }
+
+        public void addActivation(boolean executed, long nanos) {
+            activations.incrementAndGet();
+            if (!executed) {
+                rejections.incrementAndGet();
+            }
+            time.addAndGet(nanos);
+        }
+
+        public long getActivations() {
+            return activations.get();
+        }
+
+        public long getRejections() {
+            return rejections.get();
+        }
+
+        public long getTime() {
+            return time.get();
+        }
+
+    }
+
+}
@@ -24,12 +24,21 @@ SOFTWARE.
 
 package dev.kobu.database.index;
 
+import dev.kobu.database.Fact;
+import dev.kobu.database.RuleProfiler;
+
 public interface IndexNode {
 
     void addChild(Slot child);
 
     void dispatch(Match match);
 
+    void dispatchRetract(Fact fact);
+
     void clear();
 
+    RuleProfiler.NodeStats getStats();
+
+    void setStats(RuleProfiler.NodeStats stats);
+
 }
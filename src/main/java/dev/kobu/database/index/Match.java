@@ -24,19 +24,25 @@ SOFTWARE.
 
 package dev.kobu.database.index;
 
+import dev.kobu.database.Fact;
+import dev.kobu.interpreter.ast.eval.RuleContext;
 import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.eval.context.ContextSnapshot;
 import dev.kobu.interpreter.ast.eval.context.EvalContext;
 import dev.kobu.interpreter.ast.eval.expr.value.RecordValueExpr;
-import dev.kobu.interpreter.ast.symbol.VariableSymbol;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 public class Match {
 
+    private static final int[] NO_FACTS = new int[0];
+
     private final int matchId;
 
-    private final EvalContext context;
+    private final EvalContext baseContext;
+
+    private final MatchBindings bindings;
 
     private final ValueExpr value;
 
@@ -46,28 +52,33 @@ public class Match {
 
     private MatchPath matchPath;
 
+    private int[] factIds;
+
+    private EvalContext context;
+
     public Match(int matchId, EvalContext context, RecordValueExpr rootRecord, ValueExpr value, String bind) {
-        this.context = context;
-        this.rootRecord = rootRecord;
-        this.matchId = matchId;
-        this.value = value;
-        this.bind = bind;
-        addValueToCtx(context, value, bind);
+        this(matchId, context, MatchBindings.bind(null, bind, value), rootRecord, value, bind);
     }
 
     public Match(EvalContext context, RecordValueExpr rootRecord, ValueExpr value, String bind) {
-        this.context = context;
-        this.rootRecord = rootRecord;
-        this.matchId = context.getDatabase().generateMatchId();
-        this.value = value;
-        this.bind = bind;
-        addValueToCtx(context, value, bind);
+        this(context.getDatabase().generateMatchId(), context, rootRecord, value, bind);
     }
 
     public Match(EvalContext context, RecordValueExpr rootRecord, ValueExpr value) {
         this(context, rootRecord, value, null);
     }
 
+    private Match(int matchId, EvalContext baseContext, MatchBindings bindings, RecordValueExpr rootRecord,
+                  ValueExpr value, String bind) {
+        this.matchId = matchId;
+        this.baseContext = baseContext;
+        this.bindings = bindings;
+        this.rootRecord = rootRecord;
+        this.value = value;
+        this.bind = bind;
+        this.factIds = value instanceof Fact ? new int[] { ((Fact) value).getId() } : NO_FACTS;
+    }
+
     public Match setValue(ValueExpr value, String bind) {
         return setValue(value, bind, false);
     }
@@ -81,38 +92,52 @@ public class Match {
     }
 
     public Match setValue(RecordValueExpr rootRecord, ValueExpr value, String bind, boolean newMatchId) {
-        EvalContext matchCtx = context.newEvalContext();
-        matchCtx.getCurrentScope().addAll(context.getCurrentScope());
-        addValueToCtx(matchCtx, value, bind);
-        Match match = new Match(newMatchId ? context.getDatabase().generateMatchId() : matchId,
-                matchCtx, rootRecord, value, bind);
+        Match match = new Match(newMatchId ? baseContext.getDatabase().generateMatchId() : matchId,
+                baseContext, MatchBindings.bind(bindings, bind, value), rootRecord, value, bind);
         match.matchPath = matchPath;
+        match.factIds = factIds;
+        return match;
+    }
+
+    public Match setFact(Fact fact, String bind) {
+        Match match = setValue(fact, bind, true);
+        match.factIds = concat(factIds, new int[] { fact.getId() });
         return match;
     }
 
+    public Match extend(Integer matchId, RecordValueExpr rootRecord, ValueExpr value, String bind) {
+        return new Match(matchId != null ? matchId : baseContext.getDatabase().generateMatchId(),
+                baseContext, MatchBindings.bind(bindings, bind, value), rootRecord, value, bind);
+    }
+
     public Match merge(Match match) {
         return merge(null, match);
     }
 
     public Match merge(Integer matchId, Match match) {
-        EvalContext matchCtx = context.newEvalContext();
-        matchCtx.getCurrentScope().addAll(context.getCurrentScope());
-        matchCtx.getCurrentScope().addAll(match.context.getCurrentScope());
-        Match newMatch;
-        if (matchId != null) {
-            newMatch = new Match(matchId, matchCtx, rootRecord, value, bind);
-        } else {
-            newMatch = new Match(matchCtx, rootRecord, value, bind);
-        }
+        MatchBindings mergedBindings = MatchBindings.bind(MatchBindings.merge(bindings, match.bindings), bind, value);
+        Match newMatch = new Match(matchId != null ? matchId : baseContext.getDatabase().generateMatchId(),
+                baseContext, mergedBindings, rootRecord, value, bind);
         if (matchPath == null) {
             newMatch.matchPath = new MatchPath(this.matchId, match.matchId);
         } else {
             newMatch.matchPath = matchPath.add(this.matchId, match.matchId);
         }
+        newMatch.factIds = concat(factIds, match.factIds);
         return newMatch;
     }
 
+    public EvalContext newEvalContext(RuleContext ruleContext) {
+        EvalContext evalContext = baseContext.newEvalContext(ruleContext);
+        MatchBindings.bindTo(bindings, evalContext);
+        return evalContext;
+    }
+
     public EvalContext getContext() {
+        if (context == null) {
+            context = baseContext.newEvalContext();
+            MatchBindings.bindTo(bindings, context);
+        }
         return context;
     }
 
@@ -134,9 +159,7 @@ public class Match {
 
     public ContextSnapshot getSnapshot() {
         ContextSnapshot snapshot = new ContextSnapshot();
-        if (context != null) {
-            context.getCurrentScope().getSnapshot(snapshot);
-        }
+        MatchBindings.getSnapshot(bindings, snapshot);
         return snapshot;
     }
 
@@ -148,14 +171,20 @@ public class Match {
         return matchPath;
     }
 
-    private void addValueToCtx(EvalContext evalContext, ValueExpr value, String bind) {
-        if (bind != null) {
-            if (evalContext.getCurrentScope().resolveLocal(bind) == null) {
-                evalContext.getCurrentScope().define(context.getAnalyzerContext(), new VariableSymbol(context.getModuleScope(),
-                        bind, value.getType()));
-            }
-            evalContext.getCurrentScope().setValue(bind, value);
+    public int[] getFactIds() {
+        return factIds;
+    }
+
+    private static int[] concat(int[] left, int[] right) {
+        if (right.length == 0) {
+            return left;
+        }
+        if (left.length == 0) {
+            return right;
         }
+        int[] result = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, result, left.length, right.length);
+        return result;
     }
 
     public static class MatchPath {
@@ -0,0 +1,107 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.database.index;
+
+import dev.kobu.interpreter.ast.eval.LocalScope;
+import dev.kobu.interpreter.ast.eval.ValueExpr;
+import dev.kobu.interpreter.ast.eval.context.ContextSnapshot;
+import dev.kobu.interpreter.ast.eval.context.EvalContext;
+import dev.kobu.interpreter.ast.symbol.VariableSymbol;
+
+public class MatchBindings {
+
+    private final MatchBindings parent;
+
+    private final MatchBindings other;
+
+    private final String name;
+
+    private final ValueExpr value;
+
+    private MatchBindings(MatchBindings parent, MatchBindings other, String name, ValueExpr value) {
+        this.parent = parent;
+        this.other = other;
+        this.name = name;
+        this.value = value;
+    }
+
+    public static MatchBindings bind(MatchBindings bindings, String name, ValueExpr value) {
+        if (name == null) {
+            return bindings;
+        }
+        return new MatchBindings(bindings, null, name, value);
+    }
+
+    public static MatchBindings merge(MatchBindings left, MatchBindings right) {
+        if (right == null) {
+            return left;
+        }
+        if (left == null) {
+            return right;
+        }
+        return new MatchBindings(left, right, null, null);
+    }
+
+    public static void bindTo(MatchBindings bindings, EvalContext context) {
+        if (bindings != null) {
+            bindings.bindTo(context, context.getCurrentScope());
+        }
+    }
+
+    public static void getSnapshot(MatchBindings bindings, ContextSnapshot snapshot) {
+        if (bindings != null) {
+            bindings.getSnapshot(snapshot);
+        }
+    }
+
+    private void bindTo(EvalContext context, LocalScope scope) {
+        if (parent != null) {
+            parent.bindTo(context, scope);
+        }
+        if (other != null) {
+            other.bindTo(context, scope);
+        }
+        if (name != null) {
+            if (scope.resolveLocal(name) == null) {
+                scope.define(context.getAnalyzerContext(), new VariableSymbol(context.getModuleScope(),
+                        name, value.getType()));
+            }
+            scope.setValue(name, value);
+        }
+    }
+
+    private void getSnapshot(ContextSnapshot snapshot) {
+        if (parent != null) {
+            parent.getSnapshot(snapshot);
+        }
+        if (other != null) {
+            other.getSnapshot(snapshot);
+        }
+        if (name != null) {
+            snapshot.add(name, value);
+        }
+    }
+
+}
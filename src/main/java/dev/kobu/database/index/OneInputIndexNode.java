@@ -24,6 +24,9 @@ SOFTWARE.
 
 package dev.kobu.database.index;
 
+import dev.kobu.database.Fact;
+import dev.kobu.database.RuleProfiler;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,11 +34,36 @@ public abstract class OneInputIndexNode implements IndexNode, Slot {
 
     private final List<Slot> children = new ArrayList<>();
 
+    protected RuleProfiler.NodeStats stats;
+
     @Override
     public void dispatch(Match match) {
+        if (stats != null) {
+            stats.incProduced();
+        }
         children.forEach(slot -> slot.receive(match));
     }
 
+    @Override
+    public void dispatchRetract(Fact fact) {
+        children.forEach(slot -> slot.retract(fact));
+    }
+
+    @Override
+    public void retract(Fact fact) {
+        dispatchRetract(fact);
+    }
+
+    @Override
+    public RuleProfiler.NodeStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void setStats(RuleProfiler.NodeStats stats) {
+        this.stats = stats;
+    }
+
     @Override
     public void addChild(Slot child) {
         children.add(child);
@@ -25,6 +25,7 @@ SOFTWARE.
 package dev.kobu.database.index;
 
 import dev.kobu.database.Fact;
+import dev.kobu.database.RuleProfiler;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,11 +34,31 @@ public abstract class RootIndexNode implements IndexNode {
 
     private final List<Slot> children = new ArrayList<>();
 
+    protected RuleProfiler.NodeStats stats;
+
     @Override
     public void dispatch(Match match) {
+        if (stats != null) {
+            stats.incProduced();
+        }
         children.forEach(slot -> slot.receive(match));
     }
 
+    @Override
+    public void dispatchRetract(Fact fact) {
+        children.forEach(slot -> slot.retract(fact));
+    }
+
+    @Override
+    public RuleProfiler.NodeStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void setStats(RuleProfiler.NodeStats stats) {
+        this.stats = stats;
+    }
+
     @Override
     public void addChild(Slot child) {
         children.add(child);
@@ -52,6 +73,8 @@ public abstract class RootIndexNode implements IndexNode {
 
     public abstract void receive(Fact fact);
 
+    public abstract void retract(Fact fact);
+
     public abstract void beforeRun();
 
     public abstract void afterRun();
@@ -24,10 +24,14 @@ SOFTWARE.
 
 package dev.kobu.database.index;
 
+import dev.kobu.database.Fact;
+
 public interface Slot {
 
     void receive(Match match);
 
+    void retract(Fact fact);
+
     void clear();
 
 }
@@ -24,24 +24,32 @@ SOFTWARE.
 
 package dev.kobu.database.index;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import dev.kobu.database.Fact;
+import dev.kobu.database.RuleProfiler;
+
+import java.util.*;
 
 public abstract class TwoInputsIndexNode implements IndexNode {
 
     private final List<Slot> children = new ArrayList<>();
 
+    protected RuleProfiler.NodeStats stats;
+
     private final Slot leftSlot = new LeftSlot();
 
     private final Slot rightSlot = new RightSlot();
 
-    private final Map<Match.MatchPath, Integer> leftEntriesMap = new HashMap<>();
+    private final Map<Object, Match> leftEntries = new LinkedHashMap<>();
+
+    private final Map<Integer, Set<Object>> leftKeysByFact = new HashMap<>();
 
-    private final List<Match> leftEntries = new ArrayList<>();
+    private final Map<Integer, Match> rightEntries = new LinkedHashMap<>();
 
-    private final List<Match> rightEntries = new ArrayList<>();
+    private final Map<Integer, Set<Integer>> rightKeysByFact = new HashMap<>();
+
+    private int nextLeftKey;
+
+    private int nextRightKey;
 
     protected abstract void receive(Match left, Match right);
 
@@ -53,40 +61,100 @@ public abstract class TwoInputsIndexNode implements IndexNode {
         return rightSlot;
     }
 
-    private void receiveLeft(Match match) {
-        Integer idx = null;
-        if (match.getMatchPath() != null) {
-            idx = leftEntriesMap.get(match.getMatchPath());
-            if (idx != null) {
-                leftEntries.set(idx, match);
-            } else {
-                leftEntries.add(match);
-                idx = leftEntries.size() - 1;
-            }
-        } else {
-            leftEntries.add(match);
-            idx = leftEntries.size() - 1;
+    protected void receiveLeft(Match match) {
+        Object key = match.getMatchPath() != null ? match.getMatchPath() : nextLeftKey++;
+        Match prevMatch = leftEntries.put(key, match);
+        if (prevMatch != null) {
+            unregister(leftKeysByFact, key, prevMatch);
         }
-        if (match.getMatchPath() != null) {
-            leftEntriesMap.put(match.getMatchPath(), idx);
-        }
-        rightEntries.forEach(right -> {
+        register(leftKeysByFact, key, match);
+        rightEntries.values().forEach(right -> {
             receive(match, right);
         });
     }
 
-    private void receiveRight(Match match) {
-        rightEntries.add(match);
-        leftEntries.forEach(left -> {
+    protected void receiveRight(Match match) {
+        int key = nextRightKey++;
+        rightEntries.put(key, match);
+        register(rightKeysByFact, key, match);
+        leftEntries.values().forEach(left -> {
             receive(left, match);
         });
     }
 
+    protected void retractLeft(Fact fact) {
+        Set<Object> keys = leftKeysByFact.remove(fact.getId());
+        if (keys != null) {
+            for (Object key : keys) {
+                Match match = leftEntries.remove(key);
+                if (match != null) {
+                    unregister(leftKeysByFact, key, match);
+                    leftRetracted(match);
+                }
+            }
+        }
+    }
+
+    protected abstract void leftRetracted(Match match);
+
+    protected void retractRight(Fact fact) {
+        Set<Integer> keys = rightKeysByFact.remove(fact.getId());
+        if (keys != null) {
+            for (Integer key : keys) {
+                Match match = rightEntries.remove(key);
+                if (match != null) {
+                    unregister(rightKeysByFact, key, match);
+                }
+            }
+        }
+    }
+
+    protected void clearRight() {
+        rightEntries.clear();
+        rightKeysByFact.clear();
+    }
+
+    private static <K> void register(Map<Integer, Set<K>> keysByFact, K key, Match match) {
+        for (int factId : match.getFactIds()) {
+            keysByFact.computeIfAbsent(factId, k -> new HashSet<>()).add(key);
+        }
+    }
+
+    private static <K> void unregister(Map<Integer, Set<K>> keysByFact, K key, Match match) {
+        for (int factId : match.getFactIds()) {
+            Set<K> keys = keysByFact.get(factId);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByFact.remove(factId);
+                }
+            }
+        }
+    }
+
     @Override
     public void dispatch(Match match) {
+        if (stats != null) {
+            stats.incProduced();
+        }
         children.forEach(slot -> slot.receive(match));
     }
 
+    @Override
+    public void dispatchRetract(Fact fact) {
+        children.forEach(slot -> slot.retract(fact));
+    }
+
+    @Override
+    public RuleProfiler.NodeStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void setStats(RuleProfiler.NodeStats stats) {
+        this.stats = stats;
+    }
+
     @Override
     public void addChild(Slot child) {
         children.add(child);
@@ -95,8 +163,9 @@ public abstract class TwoInputsIndexNode implements IndexNode {
     @Override
     public void clear() {
         leftEntries.clear();
-        leftEntriesMap.clear();
+        leftKeysByFact.clear();
         rightEntries.clear();
+        rightKeysByFact.clear();
         children.forEach(Slot::clear);
     }
 
@@ -104,9 +173,18 @@ public abstract class TwoInputsIndexNode implements IndexNode {
 
         @Override
         public void receive(Match match) {
+            if (stats != null) {
+                stats.incReceived();
+            }
             receiveLeft(match);
         }
 
+        @Override
+        public void retract(Fact fact) {
+            retractLeft(fact);
+            dispatchRetract(fact);
+        }
+
         @Override
         public void clear() {
             TwoInputsIndexNode.this.clear();
@@ -118,12 +196,21 @@ public abstract class TwoInputsIndexNode implements IndexNode {
 
         @Override
         public void receive(Match match) {
+            if (stats != null) {
+                stats.incReceived();
+            }
             receiveRight(match);
         }
 
+        @Override
+        public void retract(Fact fact) {
+            retractRight(fact);
+            dispatchRetract(fact);
+        }
+
         @Override
         public void clear() {
-            rightEntries.clear();
+            clearRight();
         }
 
     }
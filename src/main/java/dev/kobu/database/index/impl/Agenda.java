@@ -0,0 +1,81 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.database.index.impl;
+
+import java.util.*;
+
+public class Agenda {
+
+    private PriorityQueue<RuleActivation> queue;
+
+    private long nextSeq;
+
+    public Agenda(ConflictResolutionStrategy strategy) {
+        setStrategy(strategy);
+    }
+
+    public void setStrategy(ConflictResolutionStrategy strategy) {
+        Comparator<RuleActivation> comparator = Comparator
+                .comparingInt((RuleActivation activation) -> activation.getRuleNode().getPriority())
+                .reversed()
+                .thenComparing(strategy);
+        PriorityQueue<RuleActivation> newQueue = new PriorityQueue<>(comparator);
+        if (queue != null) {
+            newQueue.addAll(queue);
+        }
+        queue = newQueue;
+    }
+
+    public void add(RuleActivation activation) {
+        activation.setSeq(nextSeq++);
+        queue.add(activation);
+    }
+
+    public RuleActivation poll() {
+        return queue.poll();
+    }
+
+    public List<RuleActivation> pollLevel() {
+        List<RuleActivation> activations = new ArrayList<>();
+        RuleActivation activation = poll();
+        if (activation != null) {
+            int priority = activation.getRuleNode().getPriority();
+            activations.add(activation);
+            while ((activation = queue.peek()) != null && activation.getRuleNode().getPriority() == priority) {
+                activations.add(queue.poll());
+            }
+        }
+        return activations;
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    public void clear() {
+        queue.clear();
+    }
+
+}
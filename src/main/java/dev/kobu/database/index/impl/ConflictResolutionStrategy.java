@@ -0,0 +1,55 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.database.index.impl;
+
+import java.util.Comparator;
+
+public interface ConflictResolutionStrategy extends Comparator<RuleActivation> {
+
+    ConflictResolutionStrategy RULE_ORDER = (a1, a2) -> {
+        int result = Integer.compare(a1.getRuleNode().getOrder(), a2.getRuleNode().getOrder());
+        if (result == 0) {
+            result = Long.compare(a1.getSeq(), a2.getSeq());
+        }
+        return result;
+    };
+
+    ConflictResolutionStrategy FIFO = (a1, a2) -> Long.compare(a1.getSeq(), a2.getSeq());
+
+    ConflictResolutionStrategy RECENCY = (a1, a2) -> Long.compare(a2.getSeq(), a1.getSeq());
+
+    static ConflictResolutionStrategy fromName(String name) {
+        if (name != null) {
+            switch (name.toLowerCase()) {
+                case "fifo":
+                    return FIFO;
+                case "recency":
+                    return RECENCY;
+            }
+        }
+        return RULE_ORDER;
+    }
+
+}
@@ -39,6 +39,9 @@ public class FieldIndexNode extends OneInputIndexNode {
 
     @Override
     public void receive(Match match) {
+        if (stats != null) {
+            stats.incReceived();
+        }
 
         for (Match fieldMatch : matcher.eval(match)) {
             dispatch(fieldMatch);
@@ -25,6 +25,7 @@ SOFTWARE.
 package dev.kobu.database.index.impl;
 
 import dev.kobu.database.Fact;
+import dev.kobu.database.IntMap;
 import dev.kobu.database.index.Match;
 import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.eval.context.EvalContext;
@@ -34,18 +35,26 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.ast.symbol.Type;
 
 import java.util.*;
+import java.util.function.IntToLongFunction;
 
 public class InternalAccIndexValueExpr implements ValueExpr {
 
-    private final Map<Integer, List<Fact>> factMap;
+    private final IntMap<List<Fact>> factMap;
 
     private final Map<Fact, Integer> factMatchMap;
 
+    private final BitSet changedKeys;
+
+    private final IntToLongFunction keyVersions;
+
     private final List<Matcher> matchers = new ArrayList<>();
 
-    public InternalAccIndexValueExpr(Map<Integer, List<Fact>> factMap, Map<Fact, Integer> factMatchMap) {
-        this.factMap = factMap != null ? factMap : new HashMap<>();
+    public InternalAccIndexValueExpr(IntMap<List<Fact>> factMap, Map<Fact, Integer> factMatchMap,
+                                     BitSet changedKeys, IntToLongFunction keyVersions) {
+        this.factMap = factMap != null ? factMap : new IntMap<>();
         this.factMatchMap = factMatchMap;
+        this.changedKeys = changedKeys;
+        this.keyVersions = keyVersions;
     }
 
     public void addMatcher(Matcher matcher) {
@@ -55,12 +64,20 @@ public class InternalAccIndexValueExpr implements ValueExpr {
     public List<Fact> getFacts(int creatorId) {
         List<Fact> facts = factMap.get(creatorId);
         if (facts == null) {
-            return new ArrayList<>();
+            return Collections.emptyList();
         }
 
         return facts;
     }
 
+    public BitSet getChangedKeys() {
+        return changedKeys;
+    }
+
+    public long getKeyVersion(int key) {
+        return keyVersions.applyAsLong(key);
+    }
+
     public List<Match> eval(Match match) {
         List<Match> result = new ArrayList<>();
         result.add(match);
@@ -25,6 +25,7 @@ SOFTWARE.
 package dev.kobu.database.index.impl;
 
 import dev.kobu.database.Fact;
+import dev.kobu.database.IntMap;
 import dev.kobu.database.index.Match;
 import dev.kobu.database.index.TwoInputsIndexNode;
 import dev.kobu.interpreter.ast.eval.ValueExpr;
@@ -42,159 +43,358 @@ public class JoinIndexNode extends TwoInputsIndexNode {
 
     private final QueryJoin queryJoin;
 
-    private Map<Integer, ContextSnapshot> snapshotMap;
+    private IntMap<Dispatched> dispatchedMap;
 
-    private final Map<MatchPair, Integer> matchPairMap = new HashMap<>();
+    private final IntMap<IntMap<Integer>> matchPairMap = new IntMap<>();
 
-    private ValueExpr lastOfValueExpr;
+    private final IntMap<List<LeftEntry>> leftIndex = new IntMap<>();
 
-    private int lastLeftMatchId;
+    private final IntMap<List<LeftEntry>> leftFactIndex = new IntMap<>();
+
+    private final Map<Match.MatchPath, LeftEntry> leftPathMap = new HashMap<>();
+
+    private TreeMap<Integer, LeftEntry> pendingEntries = new TreeMap<>();
+
+    private int nextEntrySeq;
+
+    private Match currentRight;
 
     public JoinIndexNode(QueryJoin queryJoin) {
         this.queryJoin = queryJoin;
 
         if (queryJoin.getTypeClause().accumulator()) {
-            this.snapshotMap = new HashMap<>();
+            this.dispatchedMap = new IntMap<>();
         }
     }
 
     @Override
-    protected void receive(Match left, Match right) {
+    protected void receiveLeft(Match match) {
+        if (queryJoin.getOfExpr() == null) {
+            super.receiveLeft(match);
+            return;
+        }
+
+        LeftEntry entry = new LeftEntry(match, queryJoin.getOfExpr().evalExpr(match.getContext()));
+        LeftEntry prevEntry = match.getMatchPath() != null ? leftPathMap.put(match.getMatchPath(), entry) : null;
+        if (prevEntry != null) {
+            removeFromIndex(prevEntry);
+            entry.seq = prevEntry.seq;
+        } else {
+            entry.seq = nextEntrySeq++;
+        }
+        addToIndex(entry);
+
+        if (currentRight != null) {
+            pendingEntries.remove(entry.seq);
+            receive(entry, currentRight);
+        } else {
+            pendingEntries.put(entry.seq, entry);
+        }
+    }
 
+    @Override
+    protected void receiveRight(Match match) {
         if (queryJoin.getOfExpr() == null) {
-            if (right.getValue() instanceof InternalAccIndexValueExpr) {
-                if (queryJoin.getTypeClause().getQueryType() instanceof ArrayType) {
-                    right = right.setValue(new ArrayValueExpr(
-                            (ArrayType) queryJoin.getTypeClause().getQueryType(),
-                            ((InternalAccIndexValueExpr) right.getValue()).toList()
-                    ), right.getBind());
-                    dispatch(merge(left, right));
-                } else {
-                    InternalAccIndexValueExpr index = (InternalAccIndexValueExpr) right.getValue();
-                    for (ValueExpr valueExpr : index.toList()) {
-                        right = right.setValue(valueExpr, right.getBind(), true);
-                        List<Match> matches = index.eval(right);
-                        for (Match rightMatch : matches) {
-                            dispatch(merge(left, rightMatch));
-                        }
-                    }
+            super.receiveRight(match);
+            return;
+        }
+
+        currentRight = match;
+        InternalAccIndexValueExpr index = (InternalAccIndexValueExpr) match.getValue();
+
+        TreeMap<Integer, LeftEntry> entries = pendingEntries;
+        pendingEntries = new TreeMap<>();
+        BitSet changedKeys = index.getChangedKeys();
+        for (int key = changedKeys.nextSetBit(0); key >= 0; key = changedKeys.nextSetBit(key + 1)) {
+            List<LeftEntry> bucket = leftIndex.get(key);
+            if (bucket != null) {
+                long keyVersion = index.getKeyVersion(key);
+                for (LeftEntry entry : bucket) {
+                    entry.keyChanged(keyVersion);
+                    entries.put(entry.seq, entry);
                 }
-            } else {
-                dispatch(merge(left, right));
             }
-        } else {
+        }
 
-            ValueExpr ofValueExpr;
-            if (lastLeftMatchId == left.getMatchId()) {
-                ofValueExpr = lastOfValueExpr;
-            } else {
-                ofValueExpr = queryJoin.getOfExpr().evalExpr(left.getContext());
-                lastOfValueExpr = ofValueExpr;
-                lastLeftMatchId = left.getMatchId();
-            }
+        for (LeftEntry entry : entries.values()) {
+            receive(entry, match);
+        }
+    }
 
-            if (ofValueExpr == null || ofValueExpr instanceof NullValueExpr) {
-                if (queryJoin.getTypeClause().accumulator()) {
-                    var prevCtx = snapshotMap.get(left.getMatchId());
-                    var newMatch = merge(left, right
-                            .setValue(new ArrayValueExpr(
-                                        (ArrayType) queryJoin.getTypeClause().getQueryType(), new ArrayList<>()),
-                                    right.getBind()));
-                    var snapshot = newMatch.getSnapshot();
-                    if (snapshot.equals(prevCtx)) {
-                        return;
-                    }
-                    snapshotMap.put(left.getMatchId(), snapshot);
-                    dispatch(newMatch);
-                }
-            } else if (ofValueExpr instanceof RecordValueExpr) {
-                RecordValueExpr recordValueExpr = (RecordValueExpr) ofValueExpr;
+    @Override
+    protected void retractLeft(Fact fact) {
+        if (queryJoin.getOfExpr() == null) {
+            super.retractLeft(fact);
+            return;
+        }
 
-                InternalAccIndexValueExpr index = (InternalAccIndexValueExpr) right.getValue();
-                var facts = index.getFacts(recordValueExpr.getId());
-
-                if (facts != null) {
-                    for (Fact fact : facts) {
-                        Integer matchId = index.getFactMatchMap().remove(fact);
-                        Match match;
-                        if (matchId == null) {
-                            match = new Match(right.getContext(), null, fact, right.getBind());
-                            index.getFactMatchMap().put(fact, match.getMatchId());
-                        } else {
-                            match = new Match(matchId, right.getContext(), null, fact, right.getBind());
-                        }
-
-                        List<Match> matches = index.eval(match);
-                        for (Match rightMatch : matches) {
-                            dispatch(merge(left, rightMatch));
-                        }
-                    }
+        List<LeftEntry> entries = leftFactIndex.remove(fact.getId());
+        if (entries != null) {
+            for (LeftEntry entry : entries) {
+                removeFromIndex(entry);
+                if (entry.match.getMatchPath() != null) {
+                    leftPathMap.remove(entry.match.getMatchPath(), entry);
                 }
-            } else if (ofValueExpr instanceof ArrayValueExpr) {
+                pendingEntries.remove(entry.seq, entry);
+                leftRetracted(entry.match);
+            }
+        }
+    }
+
+    @Override
+    protected void leftRetracted(Match match) {
+        matchPairMap.remove(match.getMatchId());
+        if (dispatchedMap != null) {
+            dispatchedMap.remove(match.getMatchId());
+        }
+    }
+
+    @Override
+    protected void clearRight() {
+        currentRight = null;
+        super.clearRight();
+    }
+
+    @Override
+    public void clear() {
+        leftIndex.clear();
+        leftFactIndex.clear();
+        leftPathMap.clear();
+        pendingEntries.clear();
+        currentRight = null;
+        super.clear();
+    }
+
+    @Override
+    protected void receive(Match left, Match right) {
 
-                ArrayValueExpr arrayValueExpr = (ArrayValueExpr) ofValueExpr;
-                List<ValueExpr> recordList = arrayValueExpr.getValue();
+        if (right.getValue() instanceof InternalAccIndexValueExpr) {
+            if (queryJoin.getTypeClause().getQueryType() instanceof ArrayType) {
+                right = right.setValue(new ArrayValueExpr(
+                        (ArrayType) queryJoin.getTypeClause().getQueryType(),
+                        ((InternalAccIndexValueExpr) right.getValue()).toList()
+                ), right.getBind());
+                dispatch(merge(left, right));
+            } else {
                 InternalAccIndexValueExpr index = (InternalAccIndexValueExpr) right.getValue();
-                List<ValueExpr> values = new ArrayList<>();
-                for (ValueExpr valueExpr : recordList) {
-                    var facts = index.getFacts(((RecordValueExpr)valueExpr).getId());
-                    if (facts != null) {
-                        values.addAll(facts);
+                for (ValueExpr valueExpr : index.toList()) {
+                    Match factMatch = right.setFact((Fact) valueExpr, right.getBind());
+                    List<Match> matches = index.eval(factMatch);
+                    for (Match rightMatch : matches) {
+                        dispatch(merge(left, rightMatch));
                     }
                 }
+            }
+        } else {
+            dispatch(merge(left, right));
+        }
 
-                Match newMatch = merge(left, right
-                        .setValue(new ArrayValueExpr((ArrayType) queryJoin.getTypeClause().getQueryType(), values),
+    }
+
+    private void receive(LeftEntry entry, Match right) {
+
+        Match left = entry.match;
+        ValueExpr ofValueExpr = entry.ofValueExpr;
+        if (ofValueExpr == null || ofValueExpr instanceof NullValueExpr) {
+            if (queryJoin.getTypeClause().accumulator()) {
+                if (unchanged(entry, (InternalAccIndexValueExpr) right.getValue())) {
+                    return;
+                }
+                var newMatch = merge(left, right
+                        .setValue(new ArrayValueExpr(
+                                    (ArrayType) queryJoin.getTypeClause().getQueryType(), new ArrayList<>()),
                                 right.getBind()));
+                dispatch(newMatch);
+            }
+        } else if (ofValueExpr instanceof RecordValueExpr) {
+            RecordValueExpr recordValueExpr = (RecordValueExpr) ofValueExpr;
+
+            InternalAccIndexValueExpr index = (InternalAccIndexValueExpr) right.getValue();
+            var facts = index.getFacts(recordValueExpr.getId());
+
+            for (Fact fact : facts) {
+                Integer matchId = index.getFactMatchMap().remove(fact);
+                Match match;
+                match = right.extend(matchId, null, fact, right.getBind());
+                if (matchId == null) {
+                    index.getFactMatchMap().put(fact, match.getMatchId());
+                }
 
-                if (queryJoin.getTypeClause().accumulator()) {
-                    var prevCtx = snapshotMap.get(left.getMatchId());
-                    ContextSnapshot snapshot = newMatch.getSnapshot();
-                    if (snapshot.equals(prevCtx)) {
-                        return;
-                    }
-                    snapshotMap.put(left.getMatchId(), snapshot);
+                List<Match> matches = index.eval(match);
+                for (Match rightMatch : matches) {
+                    dispatch(merge(left, rightMatch));
                 }
+            }
+        } else if (ofValueExpr instanceof ArrayValueExpr) {
 
-                dispatch(newMatch);
+            ArrayValueExpr arrayValueExpr = (ArrayValueExpr) ofValueExpr;
+            List<ValueExpr> recordList = arrayValueExpr.getValue();
+            InternalAccIndexValueExpr index = (InternalAccIndexValueExpr) right.getValue();
+
+            if (queryJoin.getTypeClause().accumulator() && unchanged(entry, index)) {
+                return;
             }
 
+            List<ValueExpr> values = new ArrayList<>();
+            for (ValueExpr valueExpr : recordList) {
+                values.addAll(index.getFacts(((RecordValueExpr)valueExpr).getId()));
+            }
+
+            Match newMatch = merge(left, right
+                    .setValue(new ArrayValueExpr((ArrayType) queryJoin.getTypeClause().getQueryType(), values),
+                            right.getBind()));
+
+            dispatch(newMatch);
+        }
+
+    }
+
+    /**
+     * Records that the accumulated result for the entry is being dispatched and returns true if the
+     * last result for the same left match had equal bindings and none of its keys changed since.
+     * Bindings are only compared when the left match was received again, so the check is O(1)
+     * for every other activation.
+     */
+    private boolean unchanged(LeftEntry entry, InternalAccIndexValueExpr index) {
+        long keysVersion = entry.getKeysVersion(index);
+        Dispatched prev = dispatchedMap.get(entry.match.getMatchId());
+        if (prev == null) {
+            entry.getSnapshot();
+            dispatchedMap.put(entry.match.getMatchId(), new Dispatched(entry, keysVersion));
+            return false;
+        }
+        boolean unchanged = prev.keysVersion == keysVersion
+                && (prev.entry == entry || prev.entry.getSnapshot().equals(entry.getSnapshot()));
+        prev.entry = entry;
+        prev.keysVersion = keysVersion;
+        return unchanged;
+    }
+
+    private void addToIndex(LeftEntry entry) {
+        for (int key : entry.keys) {
+            leftIndex.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+        for (int factId : entry.match.getFactIds()) {
+            leftFactIndex.computeIfAbsent(factId, k -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    private void removeFromIndex(LeftEntry entry) {
+        for (int key : entry.keys) {
+            removeFromBucket(leftIndex, key, entry);
+        }
+        for (int factId : entry.match.getFactIds()) {
+            removeFromBucket(leftFactIndex, factId, entry);
         }
+    }
 
+    private void removeFromBucket(IntMap<List<LeftEntry>> index, int key, LeftEntry entry) {
+        List<LeftEntry> bucket = index.get(key);
+        if (bucket != null) {
+            bucket.remove(entry);
+            if (bucket.isEmpty()) {
+                index.remove(key);
+            }
+        }
     }
 
     private Match merge(Match left, Match right) {
-        MatchPair matchPair = new MatchPair(left.getMatchId(), right.getMatchId());
-        Integer matchId = matchPairMap.get(matchPair);
+        IntMap<Integer> rightMap = matchPairMap.computeIfAbsent(left.getMatchId(), k -> new IntMap<>());
+        Integer matchId = rightMap.get(right.getMatchId());
         Match newMatch = left.merge(matchId, right);
         if (matchId == null) {
-            matchPairMap.put(matchPair, newMatch.getMatchId());
+            rightMap.put(right.getMatchId(), newMatch.getMatchId());
         }
         return newMatch;
     }
 
-    private static class MatchPair {
+    private static class Dispatched {
 
-        final int leftId;
+        LeftEntry entry;
 
-        final int rightId;
+        long keysVersion;
 
-        public MatchPair(int leftId, int rightId) {
-            this.leftId = leftId;
-            this.rightId = rightId;
+        Dispatched(LeftEntry entry, long keysVersion) {
+            this.entry = entry;
+            this.keysVersion = keysVersion;
         }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            MatchPair matchPair = (MatchPair) o;
-            return leftId == matchPair.leftId && rightId == matchPair.rightId;
+    }
+
+    private static class LeftEntry {
+
+        final Match match;
+
+        final ValueExpr ofValueExpr;
+
+        final int[] keys;
+
+        int seq;
+
+        private ContextSnapshot snapshot;
+
+        private boolean versioned;
+
+        private long keysVersion;
+
+        public LeftEntry(Match match, ValueExpr ofValueExpr) {
+            this.match = match;
+            this.ofValueExpr = ofValueExpr;
+            if (ofValueExpr instanceof RecordValueExpr) {
+                keys = new int[] {((RecordValueExpr) ofValueExpr).getId()};
+            } else if (ofValueExpr instanceof ArrayValueExpr) {
+                keys = distinctKeys(((ArrayValueExpr) ofValueExpr).getValue());
+            } else {
+                keys = new int[0];
+            }
         }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(leftId, rightId);
+        /**
+         * Snapshot of the left bindings, taken the first time it is needed so later changes to the
+         * bound records don't alter it. A changed record is received again as a new entry.
+         */
+        ContextSnapshot getSnapshot() {
+            if (snapshot == null) {
+                snapshot = match.getSnapshot();
+            }
+            return snapshot;
+        }
+
+        /**
+         * Latest version among the keys, read once and then kept up to date by {@link #keyChanged}.
+         */
+        long getKeysVersion(InternalAccIndexValueExpr index) {
+            if (!versioned) {
+                for (int key : keys) {
+                    keysVersion = Math.max(keysVersion, index.getKeyVersion(key));
+                }
+                versioned = true;
+            }
+            return keysVersion;
+        }
+
+        void keyChanged(long keyVersion) {
+            if (versioned) {
+                keysVersion = Math.max(keysVersion, keyVersion);
+            }
+        }
+
+        private static int[] distinctKeys(List<ValueExpr> values) {
+            int[] ids = new int[values.size()];
+            int size = 0;
+            for (ValueExpr valueExpr : values) {
+                if (valueExpr instanceof RecordValueExpr) {
+                    ids[size++] = ((RecordValueExpr) valueExpr).getId();
+                }
+            }
+            Arrays.sort(ids, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                    ids[distinct++] = ids[i];
+                }
+            }
+            return distinct == ids.length ? ids : Arrays.copyOf(ids, distinct);
         }
 
     }
@@ -25,6 +25,7 @@ SOFTWARE.
 package dev.kobu.database.index.impl;
 
 import dev.kobu.database.Fact;
+import dev.kobu.database.IntMap;
 import dev.kobu.database.index.RootIndexNode;
 import dev.kobu.database.index.Match;
 import dev.kobu.interpreter.ast.AnalyzerContext;
@@ -33,6 +34,7 @@ import dev.kobu.interpreter.ast.eval.expr.value.RecordValueExpr;
 import dev.kobu.interpreter.ast.query.QueryTypeClause;
 import dev.kobu.interpreter.ast.symbol.array.ArrayType;
 import dev.kobu.interpreter.ast.symbol.ModuleScope;
+import dev.kobu.interpreter.ast.symbol.Type;
 
 import java.util.*;
 
@@ -46,12 +48,20 @@ public class RootTypeIndexNode extends RootIndexNode {
 
     private final QueryTypeClause queryTypeClause;
 
-    private Map<Integer, List<Fact>> accMap;
+    private IntMap<List<Fact>> accMap;
 
-    private final Map<Integer, List<Fact>> factMap = new HashMap<>();
+    private final IntMap<Set<Fact>> factMap = new IntMap<>();
 
     private final Map<Fact, Integer> factMatchMap = new HashMap<>();
 
+    private final BitSet changedKeys = new BitSet();
+
+    private long[] keyVersions = new long[0];
+
+    private long changeSeq;
+
+    private long epoch;
+
     private int matchId;
 
     public RootTypeIndexNode(EvalContextProvider evalContextProvider, AnalyzerContext analyzerContext,
@@ -64,50 +74,87 @@ public class RootTypeIndexNode extends RootIndexNode {
 
     @Override
     public void receive(Fact fact) {
-        if (queryTypeClause.joinMode()) {
-            if (canDispatch(fact)) {
-                initializeAccMap();
-                registerFact(fact);
-                var list = accMap.computeIfAbsent(fact.getCreatorId(), k -> new ArrayList<>());
-                list.add(fact);
+        if (stats != null) {
+            stats.incReceived();
+        }
+        Integer prevMatchId = null;
+        if (isRegistered(fact)) {
+            if (!queryTypeClause.joinMode()) {
+                prevMatchId = factMatchMap.get(fact);
             }
+            retract(fact);
+        }
+        if (queryTypeClause.joinMode()) {
+            initializeAccMap();
+            registerFact(fact);
+            var list = accMap.computeIfAbsent(fact.getCreatorId(), k -> new ArrayList<>());
+            list.add(fact);
+            keyChanged(fact.getCreatorId());
         } else {
-            if (canDispatch(fact)) {
-                var evalContext = evalContextProvider.newEvalContext(analyzerContext, moduleScope);
-
-                Fact prevFact = getPreviousFactAndRegister(fact);
-                Integer matchId = prevFact != null ? factMatchMap.remove(fact) : null;
-                Match match;
-                if (fact instanceof RecordValueExpr) {
-                    var record = (RecordValueExpr) fact;
-                    if (matchId != null) {
-                        match = new Match(matchId, evalContext, record, record, queryTypeClause.getBind());
-                    } else {
-                        match = new Match(evalContext, record, record, queryTypeClause.getBind());
-                    }
+            var evalContext = evalContextProvider.newEvalContext(analyzerContext, moduleScope);
+
+            Match match;
+            if (fact instanceof RecordValueExpr) {
+                var record = (RecordValueExpr) fact;
+                if (prevMatchId != null) {
+                    match = new Match(prevMatchId, evalContext, record, record, queryTypeClause.getBind());
                 } else {
-                    if (matchId != null) {
-                        match = new Match(matchId, evalContext, null, fact, queryTypeClause.getBind());
-                    } else {
-                        match = new Match(evalContext, null, fact, queryTypeClause.getBind());
-                    }
+                    match = new Match(evalContext, record, record, queryTypeClause.getBind());
                 }
+            } else {
+                if (prevMatchId != null) {
+                    match = new Match(prevMatchId, evalContext, null, fact, queryTypeClause.getBind());
+                } else {
+                    match = new Match(evalContext, null, fact, queryTypeClause.getBind());
+                }
+            }
+
+            factMatchMap.put(fact, match.getMatchId());
+            dispatch(match);
+        }
+    }
 
-                factMatchMap.put(fact, match.getMatchId());
-                dispatch(match);
+    @Override
+    public void retract(Fact fact) {
+        if (queryTypeClause.joinMode()) {
+            Set<Fact> facts = factMap.get(fact.getCreatorId());
+            if (facts != null && facts.remove(fact)) {
+                if (facts.isEmpty()) {
+                    factMap.remove(fact.getCreatorId());
+                }
+                if (accMap != null && accMap.containsKey(fact.getCreatorId())) {
+                    accMap.get(fact.getCreatorId()).remove(fact);
+                }
+                keyChanged(fact.getCreatorId());
             }
+        } else {
+            factMatchMap.remove(fact);
+        }
+        dispatchRetract(fact);
+    }
+
+    private boolean isRegistered(Fact fact) {
+        if (queryTypeClause.joinMode()) {
+            Set<Fact> facts = factMap.get(fact.getCreatorId());
+            return facts != null && facts.contains(fact);
         }
+        return factMatchMap.containsKey(fact);
     }
 
-    private boolean canDispatch(Fact fact) {
+    public Type getDispatchType() {
         var type = queryTypeClause.getType();
         if (queryTypeClause.accumulator()) {
             type = ((ArrayType)type).getElementType();
         }
+        return type;
+    }
+
+    public boolean canDispatch(Type factType) {
+        var type = getDispatchType();
         if (queryTypeClause.includeSubtypes()) {
-            return type.isAssignableFrom(fact.getType());
+            return type.isAssignableFrom(factType);
         } else {
-            return type.equals(fact.getType());
+            return type.equals(factType);
         }
     }
 
@@ -116,6 +163,8 @@ public class RootTypeIndexNode extends RootIndexNode {
         if (queryTypeClause.joinMode()) {
             accMap = null;
             factMap.clear();
+            changedKeys.clear();
+            epoch = ++changeSeq;
         }
         super.clear();
     }
@@ -128,12 +177,12 @@ public class RootTypeIndexNode extends RootIndexNode {
             Match match;
             if (matchId == 0) {
                 match = new Match(evalContext, null,
-                        new InternalAccIndexValueExpr(accMap, factMatchMap),
+                        new InternalAccIndexValueExpr(accMap, factMatchMap, changedKeys, this::getKeyVersion),
                         queryTypeClause.getBind());
                 matchId = match.getMatchId();
             } else {
                 match = new Match(matchId, evalContext, null,
-                        new InternalAccIndexValueExpr(accMap, factMatchMap),
+                        new InternalAccIndexValueExpr(accMap, factMatchMap, changedKeys, this::getKeyVersion),
                         queryTypeClause.getBind());
             }
             dispatch(match);
@@ -144,6 +193,7 @@ public class RootTypeIndexNode extends RootIndexNode {
     public void afterRun() {
         if (queryTypeClause.joinMode()) {
             if (queryTypeClause.accumulator()) {
+                changedKeys.clear();
                 super.clear();
             } else {
                 clear();
@@ -151,38 +201,35 @@ public class RootTypeIndexNode extends RootIndexNode {
         }
     }
 
+    private void keyChanged(int key) {
+        changedKeys.set(key);
+        if (key >= keyVersions.length) {
+            keyVersions = Arrays.copyOf(keyVersions, Math.max(key + 1, keyVersions.length * 2));
+        }
+        keyVersions[key] = ++changeSeq;
+    }
+
+    private long getKeyVersion(int key) {
+        long version = key < keyVersions.length ? keyVersions[key] : 0;
+        return version > epoch ? version : epoch;
+    }
+
     private void initializeAccMap() {
         if (accMap == null) {
-            accMap = new LinkedHashMap<>();
+            accMap = new IntMap<>();
         }
     }
 
     private void registerFact(Fact fact) {
-        List<Fact> facts = factMap.computeIfAbsent(fact.getCreatorId(), k -> new ArrayList<>());
-        facts.removeIf(fact::overrides);
-        facts.add(fact);
-    }
-
-    private Fact getPreviousFactAndRegister(Fact fact) {
-        List<Fact> facts = factMap.get(fact.getCreatorId());
-        Fact previous = null;
-        if (facts != null && !facts.isEmpty()) {
-            Iterator<Fact> it = facts.iterator();
-            while (it.hasNext()) {
-                Fact f = it.next();
-                if (fact.overrides(f)) {
-                    if (previous == null) {
-                        previous = f;
-                    }
-                    it.remove();
-                }
-            }
+        Set<Fact> facts = factMap.computeIfAbsent(fact.getCreatorId(), k -> new LinkedHashSet<>());
+        if (fact.getOriginRule() != null) {
+            facts.removeIf(fact::overrides);
         }
-        return previous;
+        facts.add(fact);
     }
 
     private boolean validFact(Fact fact) {
-        List<Fact> facts = factMap.get(fact.getCreatorId());
+        Set<Fact> facts = factMap.get(fact.getCreatorId());
         if (facts != null) {
             return facts.contains(fact);
         }
@@ -191,9 +238,9 @@ public class RootTypeIndexNode extends RootIndexNode {
 
     private void filterAccMap() {
         if (accMap != null) {
-            accMap.entrySet().removeIf(entry -> {
-                entry.getValue().removeIf(f -> !validFact(f));
-                return entry.getValue().isEmpty();
+            accMap.removeIf(facts -> {
+                facts.removeIf(f -> !validFact(f));
+                return facts.isEmpty();
             });
         }
     }
@@ -0,0 +1,82 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.database.index.impl;
+
+import dev.kobu.database.Fact;
+import dev.kobu.database.index.Match;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RuleActivation {
+
+    private final RuleIndexNode ruleNode;
+
+    private final Match match;
+
+    private final List<Fact> facts = new ArrayList<>();
+
+    private RuleInstance ruleInstance;
+
+    private long seq;
+
+    public RuleActivation(RuleIndexNode ruleNode, Match match) {
+        this.ruleNode = ruleNode;
+        this.match = match;
+    }
+
+    public void run() {
+        ruleNode.runInstance(ruleInstance, match);
+    }
+
+    public RuleIndexNode getRuleNode() {
+        return ruleNode;
+    }
+
+    public RuleInstance getRuleInstance() {
+        return ruleInstance;
+    }
+
+    public void setRuleInstance(RuleInstance ruleInstance) {
+        this.ruleInstance = ruleInstance;
+    }
+
+    public Match getMatch() {
+        return match;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public List<Fact> getFacts() {
+        return facts;
+    }
+
+}
@@ -24,6 +24,8 @@ SOFTWARE.
 
 package dev.kobu.database.index.impl;
 
+import dev.kobu.database.IntMap;
+import dev.kobu.database.RuleProfiler;
 import dev.kobu.database.index.OneInputIndexNode;
 import dev.kobu.database.index.Match;
 import dev.kobu.interpreter.ast.eval.Evaluable;
@@ -41,9 +43,7 @@ public class RuleIndexNode extends OneInputIndexNode {
 
     private final List<Evaluable> block;
 
-    private final Map<Integer, RuleInstance> contextMap = new HashMap<>();
-
-    private final Queue<Match> matchQueue = new LinkedList<>();
+    private final IntMap<RuleInstance> contextMap = new IntMap<>();
 
     private final Map<Match.MatchPath, Match> matchMap = new HashMap<>();
 
@@ -51,6 +51,12 @@ public class RuleIndexNode extends OneInputIndexNode {
 
     private int priority;
 
+    private int order;
+
+    private Agenda agenda;
+
+    private RuleProfiler.RuleStats ruleStats;
+
     public RuleIndexNode(RuleSymbol ruleSymbol, Query query, List<Evaluable> block) {
         this.ruleSymbol = ruleSymbol;
         this.query = query;
@@ -63,7 +69,7 @@ public class RuleIndexNode extends OneInputIndexNode {
         if (matchPath != null) {
             matchMap.put(matchPath, match);
         }
-        matchQueue.add(match);
+        agenda.add(new RuleActivation(this, match));
     }
 
     @Override
@@ -74,35 +80,44 @@ public class RuleIndexNode extends OneInputIndexNode {
 
     private void removeInstances() {
         contextMap.clear();
-        matchQueue.clear();
         matchMap.clear();
     }
 
-    public void run() {
-        Match match;
-        while ((match = matchQueue.poll()) != null) {
-            if (match.getMatchPath() == null || match.equals(matchMap.get(match.getMatchPath()))) {
-                var record = match.getRootRecord();
-                if (children != null) {
-                    if (children.stream().noneMatch(child -> child.executed(record))) {
-                        runMatch(match);
-                    }
-                } else {
-                    runMatch(match);
+    public void fire(RuleActivation activation) {
+        if (prepare(activation)) {
+            activation.run();
+        }
+    }
+
+    public boolean prepare(RuleActivation activation) {
+        Match match = activation.getMatch();
+        if (match.getMatchPath() == null || match.equals(matchMap.get(match.getMatchPath()))) {
+            var record = match.getRootRecord();
+            if (record != null) {
+                if (children == null || children.stream().noneMatch(child -> child.executed(record))) {
+                    activation.setRuleInstance(getInstance(record));
+                    return true;
                 }
             }
         }
+        return false;
     }
 
-    private void runMatch(Match match) {
-        var record = match.getRootRecord();
-        if (record != null) {
-            var ctx = contextMap.computeIfAbsent(record.getId(),
-                    key -> new RuleInstance(ruleSymbol, query.getWhenExpr(), block));
-            ctx.run(match);
+    void runInstance(RuleInstance instance, Match match) {
+        if (ruleStats != null) {
+            long start = System.nanoTime();
+            boolean executed = instance.run(match);
+            ruleStats.addActivation(executed, System.nanoTime() - start);
+        } else {
+            instance.run(match);
         }
     }
 
+    private RuleInstance getInstance(RecordValueExpr record) {
+        return contextMap.computeIfAbsent(record.getId(),
+                key -> new RuleInstance(ruleSymbol, query.getWhenExpr(), block));
+    }
+
     public void addChild(RuleIndexNode child) {
         if (children == null) {
             children = new ArrayList<>();
@@ -129,4 +144,20 @@ public class RuleIndexNode extends OneInputIndexNode {
     public void setPriority(int priority) {
         this.priority = priority;
     }
+
+    public int getOrder() {
+        return order;
+    }
+
+    public void setOrder(int order) {
+        this.order = order;
+    }
+
+    public void setAgenda(Agenda agenda) {
+        this.agenda = agenda;
+    }
+
+    public void setRuleStats(RuleProfiler.RuleStats ruleStats) {
+        this.ruleStats = ruleStats;
+    }
 }
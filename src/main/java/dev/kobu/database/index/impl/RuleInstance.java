@@ -55,15 +55,15 @@ public class RuleInstance implements RuleContext {
         this.block = block;
     }
 
-    public void run(Match match) {
+    public boolean run(Match match) {
         this.currentMatch = match;
-        EvalContext matchCtx = match.getContext();
-        EvalContext evalContext = matchCtx.newEvalContext(this);
-        evalContext.getCurrentScope().addAll(matchCtx.getCurrentScope());
+        EvalContext evalContext = match.newEvalContext(this);
         if (executeWhenExpression(evalContext)) {
             evalContext.evalBlock(block);
             executed = true;
+            return true;
         }
+        return false;
     }
 
     public boolean executed() {
@@ -28,6 +28,7 @@ import dev.kobu.KobuScriptRunner;
 import dev.kobu.config.Project;
 import dev.kobu.config.ProjectReader;
 import dev.kobu.database.Database;
+import dev.kobu.database.RuleProfiler;
 import dev.kobu.interpreter.ast.AnalyzerContext;
 import dev.kobu.interpreter.ast.eval.context.EvalContextProvider;
 import dev.kobu.interpreter.ast.eval.context.EvalModeEnum;
@@ -45,6 +46,8 @@ import dev.kobu.interpreter.module.ModuleLoader;
 import picocli.CommandLine;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -58,6 +61,21 @@ public class RunCliCommand implements Callable<Integer> {
     @CommandLine.Parameters(index = "1..*", paramLabel = "ARG", description = "Script arguments")
     List<String> scriptArgs;
 
+    @CommandLine.Option(names = "--profile-rules", description = "Print rule engine metrics after the script ends")
+    boolean profileRules;
+
+    @CommandLine.Option(names = "--profile-rules-json", paramLabel = "FILE",
+            description = "Write rule engine metrics as JSON to FILE")
+    File profileRulesJson;
+
+    @CommandLine.Option(names = "--debug", description = "Capture Java stack traces for script errors")
+    boolean debug;
+
+    @CommandLine.Option(names = "--stack-size", paramLabel = "MB",
+            description = "Run the script on a thread with a stack of MB megabytes. "
+                    + "Parallel agenda workers keep the default stack size")
+    Integer stackSize;
+
     @Override
     public Integer call() {
 
@@ -66,10 +84,74 @@ public class RunCliCommand implements Callable<Integer> {
             return 1;
         }
 
+        if (stackSize != null && stackSize <= 0) {
+            System.err.println("ERROR: Invalid stack size: " + stackSize + " (must be greater than 0)");
+            return 1;
+        }
+
+        if (debug) {
+            EvalError.setDebug(true);
+        }
+
         var fileSystem = new LocalKobuFileSystem();
         var scriptFile = new LocalKobuFile(file.getAbsoluteFile());
 
-        return new KobuScriptRunner(fileSystem, scriptFile, scriptArgs).run(System.out, System.err);
+        var runner = new KobuScriptRunner(fileSystem, scriptFile, scriptArgs);
+        RuleProfiler profiler = null;
+        if (profileRules || profileRulesJson != null) {
+            profiler = new RuleProfiler();
+            runner.setProfiler(profiler);
+        }
+
+        int result;
+        if (stackSize != null) {
+            result = runWithStackSize(runner);
+        } else {
+            result = runner.run(System.out, System.err);
+        }
+
+        if (profiler != null) {
+            if (profileRules) {
+                profiler.printReport(System.err);
+            }
+            if (profileRulesJson != null) {
+                try {
+                    Files.writeString(profileRulesJson.toPath(), profiler.toJson());
+                } catch (IOException e) {
+                    System.err.println("ERROR: Could not write " + profileRulesJson.getAbsolutePath() + ": " + e.getMessage());
+                    return 1;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private int runWithStackSize(KobuScriptRunner runner) {
+        int[] holder = new int[1];
+        Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(null, () -> {
+            try {
+                holder[0] = runner.run(System.out, System.err);
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+        }, "kobu-main", stackSize * 1024L * 1024L);
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+        if (failure[0] != null) {
+            System.err.println("ERROR: " + failure[0]);
+            if (debug) {
+                failure[0].printStackTrace();
+            }
+            return 1;
+        }
+        return holder[0];
     }
 
 }
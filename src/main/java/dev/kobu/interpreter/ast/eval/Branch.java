@@ -37,8 +37,6 @@ public class Branch {
 
     private boolean canInterrupt;
 
-    private InterruptTypeEnum interrupt;
-
     private final Branch parent;
 
     private final List<Branch> children = new ArrayList<>();
@@ -96,14 +94,6 @@ public class Branch {
         return false;
     }
 
-    public InterruptTypeEnum getInterrupt() {
-        return interrupt;
-    }
-
-    public void setInterrupt(InterruptTypeEnum interrupt) {
-        this.interrupt = interrupt;
-    }
-
     public void updateReturnStatement() {
         hasReturnStatement = children.stream().allMatch(Branch::hasTerminalStatement);
         hasUnreachableCode = false;
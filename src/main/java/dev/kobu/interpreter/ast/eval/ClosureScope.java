@@ -0,0 +1,121 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.interpreter.ast.eval;
+
+import dev.kobu.interpreter.ast.symbol.ModuleScope;
+import dev.kobu.interpreter.ast.symbol.Scope;
+import dev.kobu.interpreter.ast.symbol.Symbol;
+
+import java.util.*;
+
+public class ClosureScope extends LocalScope {
+
+    private final Scope outerScope;
+
+    private final LocalScope[] cellScopes;
+
+    private final int[] cellSlots;
+
+    public ClosureScope(ModuleScope moduleScope, Scope outerScope) {
+        super(moduleScope, null);
+        this.outerScope = outerScope;
+        this.cellScopes = null;
+        this.cellSlots = null;
+    }
+
+    public ClosureScope(ModuleScope moduleScope, LocalScope evalScope, List<Symbol> freeVariables) {
+        super(moduleScope, null);
+        this.outerScope = null;
+        this.cellScopes = new LocalScope[freeVariables.size()];
+        this.cellSlots = new int[freeVariables.size()];
+        for (Symbol freeVariable : freeVariables) {
+            int cell = defineSlot(freeVariable);
+            Scope scope = evalScope;
+            while (scope instanceof LocalScope) {
+                LocalScope localScope = (LocalScope) scope;
+                int slot = localScope.getSlot(freeVariable.getName());
+                if (slot >= 0) {
+                    localScope.capture();
+                    cellScopes[cell] = localScope;
+                    cellSlots[cell] = slot;
+                    break;
+                }
+                scope = scope.getEnclosingScope();
+            }
+        }
+    }
+
+    @Override
+    public Symbol resolve(String name) {
+        int slot = getSlot(name);
+        if (slot >= 0) {
+            return getSlotSymbol(slot);
+        }
+        if (outerScope != null) {
+            Symbol symbol = outerScope.resolve(name);
+            if (symbol != null && symbol.getScope() instanceof LocalScope) {
+                defineSlot(symbol);
+            }
+            return symbol;
+        }
+        return getEnclosingScope().resolve(name);
+    }
+
+    @Override
+    public Collection<Symbol> getSymbols() {
+        if (outerScope == null) {
+            return super.getSymbols();
+        }
+        Map<String, Symbol> symbols = new LinkedHashMap<>();
+        Scope scope = outerScope;
+        while (scope instanceof LocalScope) {
+            for (Symbol symbol : scope.getSymbols()) {
+                symbols.putIfAbsent(symbol.getName(), symbol);
+            }
+            scope = scope.getEnclosingScope();
+        }
+        return symbols.values();
+    }
+
+    public List<Symbol> getFreeVariables() {
+        return new ArrayList<>(super.getSymbols());
+    }
+
+    @Override
+    ValueExpr getSlotValue(int slot) {
+        if (cellScopes != null && cellScopes[slot] != null) {
+            return cellScopes[slot].getSlotValue(cellSlots[slot]);
+        }
+        return null;
+    }
+
+    @Override
+    void setSlotValue(int slot, ValueExpr value) {
+        if (cellScopes != null && cellScopes[slot] != null) {
+            cellScopes[slot].setSlotValue(cellSlots[slot], value);
+        }
+    }
+
+}
@@ -30,6 +30,4 @@ public interface HasTypeScope {
 
     void setTypeScope(Type typeScope);
 
-    void setValueScope(ValueExpr valueScope);
-
 }
@@ -37,9 +37,25 @@ import java.util.*;
 
 public class LocalScope implements Scope {
 
-    private final Map<String, Symbol> symbols = new HashMap<>();
+    private static final int INDEX_THRESHOLD = 8;
 
-    private final Map<String, ValueExpr> memory = new HashMap<>();
+    private static final String[] EMPTY_NAMES = new String[0];
+
+    private static final Symbol[] EMPTY_SYMBOLS = new Symbol[0];
+
+    private static final ValueExpr[] EMPTY_MEMORY = new ValueExpr[0];
+
+    private String[] names = EMPTY_NAMES;
+
+    private Symbol[] symbols = EMPTY_SYMBOLS;
+
+    private ValueExpr[] memory = EMPTY_MEMORY;
+
+    private int size;
+
+    private Map<String, Integer> index;
+
+    private boolean captured;
 
     private final ModuleScope moduleScope;
 
@@ -50,14 +66,6 @@ public class LocalScope implements Scope {
         this.enclosingScope = enclosingScope != null ? enclosingScope : moduleScope;
     }
 
-    public void addAll(LocalScope scope) {
-        if (scope.getEnclosingScope() instanceof LocalScope) {
-            addAll((LocalScope) scope.getEnclosingScope());
-        }
-        symbols.putAll(scope.symbols);
-        memory.putAll(scope.memory);
-    }
-
     @Override
     public Scope getEnclosingScope() {
         return enclosingScope;
@@ -66,30 +74,70 @@ public class LocalScope implements Scope {
     @Override
     public void define(AnalyzerContext analyzerContext, Symbol symbol) {
         symbol.setScope(this);
-        var currentSymbol = this.symbols.get(symbol.getName());
-        if (currentSymbol != null) {
-            analyzerContext.getErrorScope().addError(new SymbolConflictError(currentSymbol, symbol));
+        int slot = getSlot(symbol.getName());
+        if (slot >= 0) {
+            analyzerContext.getErrorScope().addError(new SymbolConflictError(symbols[slot], symbol));
         }
-        this.symbols.put(symbol.getName(), symbol);
-
+        defineSlot(symbol);
     }
 
     @Override
     public Symbol resolve(String name) {
-        var symbol = symbols.get(name);
-        if (symbol == null) {
-            symbol = enclosingScope.resolve(name);
+        int slot = getSlot(name);
+        if (slot >= 0) {
+            return symbols[slot];
+        }
+        return enclosingScope.resolve(name);
+    }
+
+    /**
+     * Fills an empty scope with the arguments of a call. The parameters take slots 0..n-1 in
+     * the order the analyzer defined them; their symbols are shared by every call and are
+     * neither modified nor checked again.
+     */
+    public void bindArguments(Symbol[] parameters, List<ValueExpr> args) {
+        int count = parameters.length;
+        if (count > names.length) {
+            names = new String[count];
+            symbols = new Symbol[count];
+            memory = new ValueExpr[count];
+        }
+        for (int i = 0; i < count; i++) {
+            names[i] = parameters[i].getName();
+            symbols[i] = parameters[i];
+            memory[i] = i < args.size() ? args.get(i) : null;
+        }
+        size = count;
+        if (size > INDEX_THRESHOLD) {
+            index = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                index.put(names[i], i);
+            }
         }
-        return symbol;
     }
 
     public Symbol resolveLocal(String name) {
-        return symbols.get(name);
+        int slot = getSlot(name);
+        return slot >= 0 ? symbols[slot] : null;
+    }
+
+    public LocalSlot resolveSlot(String name) {
+        Scope scope = this;
+        int depth = 0;
+        while (scope instanceof LocalScope) {
+            int slot = ((LocalScope) scope).getSlot(name);
+            if (slot >= 0) {
+                return new LocalSlot(name, depth, slot);
+            }
+            scope = scope.getEnclosingScope();
+            depth++;
+        }
+        return null;
     }
 
     @Override
     public Collection<Symbol> getSymbols() {
-        return symbols.values();
+        return Arrays.asList(symbols).subList(0, size);
     }
 
     @Override
@@ -97,31 +145,131 @@ public class LocalScope implements Scope {
         if (enclosingScope != null) {
             enclosingScope.getSnapshot(snapshot);
         }
-        for (Map.Entry<String, ValueExpr> entry : memory.entrySet()) {
-            snapshot.add(entry.getKey(), entry.getValue());
+        for (int i = 0; i < size; i++) {
+            var value = getSlotValue(i);
+            if (value != null) {
+                snapshot.add(names[i], value);
+            }
         }
     }
 
     public void setValue(String symbolName, ValueExpr value) {
-        if (symbols.containsKey(symbolName)) {
-            memory.put(symbolName, value);
+        int slot = getSlot(symbolName);
+        if (slot >= 0) {
+            setSlotValue(slot, value);
         } else if (enclosingScope instanceof LocalScope) {
             ((LocalScope) enclosingScope).setValue(symbolName, value);
         }
     }
 
     public List<String> getKeys() {
-        return new ArrayList<>(symbols.keySet());
+        return new ArrayList<>(Arrays.asList(names).subList(0, size));
     }
 
     public ValueExpr getValue(String symbolName) {
-        var value = memory.get(symbolName);
+        int slot = getSlot(symbolName);
+        var value = slot >= 0 ? getSlotValue(slot) : null;
         if (value == null && enclosingScope instanceof LocalScope) {
             return ((LocalScope) enclosingScope).getValue(symbolName);
         }
         return value;
     }
 
+    public void capture() {
+        this.captured = true;
+    }
+
+    public boolean isCaptured() {
+        return captured;
+    }
+
+    public void reset() {
+        if (captured) {
+            return;
+        }
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(symbols, 0, size, null);
+        Arrays.fill(memory, 0, size, null);
+        size = 0;
+        index = null;
+    }
+
+    /**
+     * Copies the current values of the given variables into a standalone scope.
+     */
+    public LocalScope detach(List<Symbol> variables) {
+        LocalScope frame = new LocalScope(moduleScope, null);
+        for (Symbol variable : variables) {
+            int slot = frame.defineSlot(variable);
+            frame.memory[slot] = getValue(variable.getName());
+        }
+        frame.captured = true;
+        return frame;
+    }
+
+    LocalScope getScopeAt(int depth) {
+        Scope scope = this;
+        for (int i = 0; i < depth && scope instanceof LocalScope; i++) {
+            scope = scope.getEnclosingScope();
+        }
+        return scope instanceof LocalScope ? (LocalScope) scope : null;
+    }
+
+    boolean hasSlot(int slot, String name) {
+        return slot < size && name.equals(names[slot]);
+    }
+
+    Symbol getSlotSymbol(int slot) {
+        return symbols[slot];
+    }
+
+    ValueExpr getSlotValue(int slot) {
+        return memory[slot];
+    }
+
+    void setSlotValue(int slot, ValueExpr value) {
+        memory[slot] = value;
+    }
+
+    int getSlot(String name) {
+        if (index != null) {
+            Integer slot = index.get(name);
+            return slot != null ? slot : -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int defineSlot(Symbol symbol) {
+        int slot = getSlot(symbol.getName());
+        if (slot >= 0) {
+            symbols[slot] = symbol;
+            return slot;
+        }
+        if (size == names.length) {
+            int capacity = size == 0 ? 4 : size * 2;
+            names = Arrays.copyOf(names, capacity);
+            symbols = Arrays.copyOf(symbols, capacity);
+            memory = Arrays.copyOf(memory, capacity);
+        }
+        slot = size++;
+        names[slot] = symbol.getName();
+        symbols[slot] = symbol;
+        if (index != null) {
+            index.put(symbol.getName(), slot);
+        } else if (size > INDEX_THRESHOLD) {
+            index = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                index.put(names[i], i);
+            }
+        }
+        return slot;
+    }
+
     public Collection<SymbolDescriptor> getSymbolDescriptors(SymbolTypeEnum... types) {
         Set<SymbolTypeEnum> typeSet = new HashSet<>(Arrays.asList(types));
         return getSymbolDescriptors(typeSet);
@@ -37,4 +37,6 @@ public interface MemoryReference {
 
     void assign(EvalContext context, ValueExpr value);
 
+    void assign(EvalContext context, ValueExpr valueScope, ValueExpr value);
+
 }
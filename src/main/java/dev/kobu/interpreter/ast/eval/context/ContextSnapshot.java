@@ -25,17 +25,74 @@ SOFTWARE.
 package dev.kobu.interpreter.ast.eval.context;
 
 import dev.kobu.interpreter.ast.eval.ValueExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.ArrayValueExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.RecordValueExpr;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 public class ContextSnapshot {
 
-    private final Map<String, SnapshotValue> values = new HashMap<>();
+    private final List<Object> values = new ArrayList<>();
+
+    private long hash = 1;
 
     public void add(String name, ValueExpr value) {
-        values.put(name, value.getSnapshotValue());
+        add(name, fingerprint(value), exactValue(value));
+    }
+
+    private void add(String name, long fingerprint, Object value) {
+        hash = mix(hash * 31 + Objects.hashCode(name));
+        hash = mix(hash * 31 + fingerprint);
+        values.add(name);
+        values.add(value);
+    }
+
+    public static long fingerprint(ValueExpr value) {
+        if (value instanceof RecordValueExpr) {
+            return recordKey((RecordValueExpr) value);
+        }
+        if (value instanceof ArrayValueExpr) {
+            long result = 1;
+            for (ValueExpr item : ((ArrayValueExpr) value).getValue()) {
+                result = mix(result * 31 + fingerprint(item));
+            }
+            return result;
+        }
+        if (value == null) {
+            return 0;
+        }
+        return mix(Objects.hashCode(value.getSnapshotValue()));
+    }
+
+    public static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static long recordKey(RecordValueExpr record) {
+        return ((long) record.getId() << 32) | (record.getVersion() & 0xffffffffL);
+    }
+
+    private static Object exactValue(ValueExpr value) {
+        if (value instanceof RecordValueExpr) {
+            return recordKey((RecordValueExpr) value);
+        }
+        if (value instanceof ArrayValueExpr) {
+            List<ValueExpr> items = ((ArrayValueExpr) value).getValue();
+            Object[] result = new Object[items.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = exactValue(items.get(i));
+            }
+            return result;
+        }
+        if (value == null) {
+            return null;
+        }
+        return value.getSnapshotValue();
     }
 
     @Override
@@ -43,12 +100,20 @@ public class ContextSnapshot {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ContextSnapshot that = (ContextSnapshot) o;
-        return Objects.equals(values, that.values);
+        if (hash != that.hash || values.size() != that.values.size()) {
+            return false;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            if (!Objects.deepEquals(values.get(i), that.values.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(values);
+        return Long.hashCode(hash);
     }
 
 }
@@ -24,13 +24,13 @@ SOFTWARE.
 
 package dev.kobu.interpreter.ast.eval.context;
 
-import dev.kobu.config.ProjectProperty;
 import dev.kobu.database.Database;
 import dev.kobu.interpreter.ast.AnalyzerContext;
 import dev.kobu.interpreter.ast.eval.*;
 import dev.kobu.interpreter.ast.eval.expr.value.NullValueExpr;
 import dev.kobu.interpreter.ast.symbol.*;
 import dev.kobu.interpreter.ast.symbol.function.KobuFunction;
+import dev.kobu.interpreter.ast.symbol.function.FunctionSymbol;
 import dev.kobu.interpreter.ast.symbol.function.NativeFunctionSymbol;
 import dev.kobu.interpreter.codec.OutputWriter;
 import dev.kobu.interpreter.error.AnalyzerError;
@@ -40,9 +40,8 @@ import dev.kobu.interpreter.error.eval.UserDefinedError;
 import dev.kobu.interpreter.file_system.KobuFileSystem;
 import dev.kobu.interpreter.codec.InputReader;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public class EvalContext {
 
@@ -62,8 +61,6 @@ public class EvalContext {
 
     private final OutputWriter outputWriter;
 
-    private final Map<String, String> properties = new HashMap<>();
-
     private final String commandOutDir;
 
     private UserDefinedFunction function;
@@ -72,14 +69,30 @@ public class EvalContext {
 
     private Branch currentBranch;
 
+    private LocalScope baseScope;
+
     private LocalScope currentScope;
 
+    private LocalScope[] scopePool;
+
+    private int scopeDepth;
+
+    private InterruptTypeEnum interrupt;
+
+    private boolean terminated;
+
     private Type returnType;
 
     private boolean voidReturnType;
 
     private ValueExpr returnValue;
 
+    private FunctionSymbol tailCallFunction;
+
+    private List<ValueExpr> tailCallArgs;
+
+    private int tryDepth;
+
     private ErrorValue errorValue;
 
     private UserDefinedError lastUserError;
@@ -87,7 +100,8 @@ public class EvalContext {
     protected EvalContext(EvalContextProvider provider, AnalyzerContext analyzerContext, EvalModeEnum evalMode,
                           ModuleScope moduleScope, KobuFileSystem fileSystem, Database database,
                           InputReader inputReader,
-                          OutputWriter outputWriter, String commandOutDir, UserDefinedFunction function) {
+                          OutputWriter outputWriter, String commandOutDir, UserDefinedFunction function,
+                          LocalScope enclosingScope) {
         this.provider = provider;
         this.analyzerContext = analyzerContext;
         this.evalMode = evalMode;
@@ -98,8 +112,8 @@ public class EvalContext {
         this.outputWriter = outputWriter;
         this.commandOutDir = commandOutDir;
         this.function = function;
-        loadProperties();
-        pushNewScope();
+        this.currentScope = enclosingScope;
+        baseScope = pushNewScope();
     }
 
     protected EvalContext(EvalContextProvider provider, AnalyzerContext analyzerContext, EvalModeEnum evalMode,
@@ -116,8 +130,7 @@ public class EvalContext {
         this.outputWriter = outputWriter;
         this.commandOutDir = commandOutDir;
         this.ruleContext = ruleContext;
-        loadProperties();
-        pushNewScope();
+        baseScope = pushNewScope();
     }
 
     protected EvalContext(EvalContextProvider provider, AnalyzerContext analyzerContext, EvalModeEnum evalMode,
@@ -132,8 +145,24 @@ public class EvalContext {
         this.inputReader = inputReader;
         this.outputWriter = outputWriter;
         this.commandOutDir = commandOutDir;
-        loadProperties();
-        pushNewScope();
+        baseScope = pushNewScope();
+    }
+
+    protected EvalContext(EvalContextProvider provider, AnalyzerContext analyzerContext, EvalModeEnum evalMode,
+                          ModuleScope moduleScope, KobuFileSystem fileSystem, Database database,
+                          InputReader inputReader, OutputWriter outputWriter, String commandOutDir,
+                          LocalScope baseScope) {
+        this.provider = provider;
+        this.analyzerContext = analyzerContext;
+        this.evalMode = evalMode;
+        this.moduleScope = moduleScope;
+        this.fileSystem = fileSystem;
+        this.database = database;
+        this.inputReader = inputReader;
+        this.outputWriter = outputWriter;
+        this.commandOutDir = commandOutDir;
+        this.baseScope = baseScope;
+        this.currentScope = baseScope;
     }
 
     public String getCommandOutDir() {
@@ -177,13 +206,33 @@ public class EvalContext {
     }
 
     public LocalScope pushNewScope() {
-        this.currentScope = new LocalScope(moduleScope, currentScope);
+        if (evalMode != EvalModeEnum.EXECUTION) {
+            this.currentScope = new LocalScope(moduleScope, currentScope);
+            return this.currentScope;
+        }
+        if (scopePool == null) {
+            scopePool = new LocalScope[4];
+        } else if (scopeDepth == scopePool.length) {
+            scopePool = Arrays.copyOf(scopePool, scopeDepth * 2);
+        }
+        LocalScope scope = scopePool[scopeDepth];
+        if (scope == null || scope.isCaptured() || scope.getEnclosingScope() != currentScope) {
+            scope = new LocalScope(moduleScope, currentScope);
+            scopePool[scopeDepth] = scope;
+        }
+        scopeDepth++;
+        this.currentScope = scope;
         return this.currentScope;
     }
 
     public LocalScope popScope() {
-        if (this.currentScope.getEnclosingScope() != moduleScope) {
-            this.currentScope = (LocalScope) this.currentScope.getEnclosingScope();
+        if (this.currentScope != baseScope) {
+            LocalScope scope = this.currentScope;
+            this.currentScope = (LocalScope) scope.getEnclosingScope();
+            if (scopeDepth > 0) {
+                scopeDepth--;
+                scope.reset();
+            }
         }
         return this.currentScope;
     }
@@ -199,9 +248,7 @@ public class EvalContext {
 
     public Branch popBranch() {
         if (this.currentBranch.getParent() != null) {
-            var interrupt = this.currentBranch.getInterrupt();
             this.currentBranch = this.currentBranch.getParent();
-            this.currentBranch.setInterrupt(interrupt);
             this.currentBranch.updateReturnStatement();
         }
         return this.currentBranch;
@@ -258,17 +305,10 @@ public class EvalContext {
             return null;
         }
         pushNewScope();
-        var branch = pushNewBranch();
-
-        InterruptTypeEnum interrupt = null;
 
         try {
             for (Evaluable evaluable : block) {
-                if (branch.hasTerminalStatement()) {
-                    break;
-                }
-                if (getCurrentBranch().getInterrupt() != null) {
-                    interrupt = getCurrentBranch().getInterrupt();
+                if (terminated || interrupt != null) {
                     break;
                 }
                 if (evaluable instanceof Statement) {
@@ -278,13 +318,28 @@ public class EvalContext {
                 }
             }
         } finally {
-            popBranch();
             popScope();
         }
 
         return interrupt;
     }
 
+    public InterruptTypeEnum getInterrupt() {
+        return interrupt;
+    }
+
+    public void setInterrupt(InterruptTypeEnum interrupt) {
+        this.interrupt = interrupt;
+    }
+
+    public boolean terminated() {
+        return terminated;
+    }
+
+    public void setTerminated() {
+        this.terminated = true;
+    }
+
     public Type getReturnType() {
         return returnType;
     }
@@ -309,6 +364,31 @@ public class EvalContext {
         this.returnValue = returnValue;
     }
 
+    public FunctionSymbol getTailCallFunction() {
+        return tailCallFunction;
+    }
+
+    public List<ValueExpr> getTailCallArgs() {
+        return tailCallArgs;
+    }
+
+    public void setTailCall(FunctionSymbol function, List<ValueExpr> args) {
+        this.tailCallFunction = function;
+        this.tailCallArgs = args;
+    }
+
+    public void enterTryBlock() {
+        tryDepth++;
+    }
+
+    public void exitTryBlock() {
+        tryDepth--;
+    }
+
+    public boolean insideTryBlock() {
+        return tryDepth > 0;
+    }
+
     public ErrorValue getErrorValue() {
         return errorValue;
     }
@@ -330,7 +410,7 @@ public class EvalContext {
     }
 
     public String getProperty(String name) {
-        return properties.get(name);
+        return moduleScope.getProperty(name);
     }
 
     public AnalyzerContext getAnalyzerContext() {
@@ -361,12 +441,4 @@ public class EvalContext {
 
         return 0;
     }
-
-    private void loadProperties() {
-        if (moduleScope.getProperties() != null) {
-            for (ProjectProperty property : moduleScope.getProperties()) {
-                properties.put(property.getName(), property.getValue());
-            }
-        }
-    }
 }
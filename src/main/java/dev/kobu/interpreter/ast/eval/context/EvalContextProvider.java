@@ -26,6 +26,7 @@ package dev.kobu.interpreter.ast.eval.context;
 
 import dev.kobu.database.Database;
 import dev.kobu.interpreter.ast.AnalyzerContext;
+import dev.kobu.interpreter.ast.eval.LocalScope;
 import dev.kobu.interpreter.ast.eval.RuleContext;
 import dev.kobu.interpreter.ast.symbol.ModuleScope;
 import dev.kobu.interpreter.ast.symbol.UserDefinedFunction;
@@ -64,8 +65,13 @@ public class EvalContextProvider {
     }
 
     public EvalContext newEvalContext(AnalyzerContext analyzerContext, ModuleScope moduleScope, UserDefinedFunction function) {
+        return newEvalContext(analyzerContext, moduleScope, function, null);
+    }
+
+    public EvalContext newEvalContext(AnalyzerContext analyzerContext, ModuleScope moduleScope, UserDefinedFunction function,
+                                      LocalScope enclosingScope) {
         return new EvalContext(this, analyzerContext, evalMode, moduleScope, fileSystem, database,
-                inputReader, outputWriter, commandOutDir, function);
+                inputReader, outputWriter, commandOutDir, function, enclosingScope);
     }
 
     public EvalContext newEvalContext(AnalyzerContext analyzerContext, ModuleScope moduleScope, RuleContext ruleContext) {
@@ -73,6 +79,11 @@ public class EvalContextProvider {
                 inputReader, outputWriter, commandOutDir, ruleContext);
     }
 
+    public EvalContext newEvalContext(AnalyzerContext analyzerContext, ModuleScope moduleScope, LocalScope baseScope) {
+        return new EvalContext(this, analyzerContext, evalMode, moduleScope, fileSystem, database,
+                inputReader, outputWriter, commandOutDir, baseScope);
+    }
+
     public EvalContext newEvalContext(EvalContext evalContext) {
         return new EvalContext(this, evalContext.getAnalyzerContext(), evalContext.getEvalMode(),
                 evalContext.getModuleScope(), fileSystem, evalContext.getDatabase(),
@@ -51,6 +51,8 @@ public class AddExpr implements Expr {
 
     private Type type;
 
+    private boolean numeric;
+
     public AddExpr(SourceCodeRef sourceCodeRef, Expr leftExpr, Expr rightExpr) {
         this.sourceCodeRef = sourceCodeRef;
         this.leftExpr = leftExpr;
@@ -59,6 +61,7 @@ public class AddExpr implements Expr {
 
     @Override
     public void analyze(EvalContext context) {
+        numeric = false;
         leftExpr.analyze(context);
         rightExpr.analyze(context);
 
@@ -69,6 +72,7 @@ public class AddExpr implements Expr {
 
         if (leftExpr.getType() instanceof NumberTypeSymbol && rightExpr.getType() instanceof NumberTypeSymbol) {
             type = BuiltinScope.NUMBER_TYPE;
+            numeric = true;
         } else if (leftExpr.getType() instanceof StringTypeSymbol || rightExpr.getType() instanceof StringTypeSymbol) {
             type = BuiltinScope.STRING_TYPE;
         } else {
@@ -85,9 +89,12 @@ public class AddExpr implements Expr {
         var leftValueExpr = leftExpr.evalExpr(context);
         var rightValueExpr = rightExpr.evalExpr(context);
 
+        if (numeric && leftValueExpr instanceof NumberValueExpr && rightValueExpr instanceof NumberValueExpr) {
+            return ((NumberValueExpr) leftValueExpr).add((NumberValueExpr) rightValueExpr);
+        }
+
         if (leftValueExpr instanceof StringValueExpr || rightValueExpr instanceof StringValueExpr) {
-            String str = getString(leftValueExpr) + getString(rightValueExpr);
-            return new StringValueExpr(sourceCodeRef, str);
+            return StringValueExpr.concat(sourceCodeRef, toStringValue(leftValueExpr), toStringValue(rightValueExpr));
         }
 
         if (leftValueExpr instanceof NullValueExpr) {
@@ -130,11 +137,11 @@ public class AddExpr implements Expr {
         return type;
     }
 
-    private String getString(ValueExpr valueExpr) {
+    private StringValueExpr toStringValue(ValueExpr valueExpr) {
         if (valueExpr instanceof StringValueExpr) {
-            return ((StringValueExpr)valueExpr).getValue();
+            return (StringValueExpr) valueExpr;
         }
-        return valueExpr.getStringValue(new HashSet<>());
+        return new StringValueExpr(valueExpr.getStringValue(new HashSet<>()));
     }
 
 }
@@ -38,13 +38,14 @@ import dev.kobu.interpreter.error.eval.InternalInterpreterError;
 import dev.kobu.interpreter.error.eval.NullPointerError;
 import dev.kobu.interpreter.ast.eval.Expr;
 import dev.kobu.interpreter.ast.eval.HasTypeScope;
+import dev.kobu.interpreter.ast.eval.HasValueScope;
 import dev.kobu.interpreter.ast.eval.MemoryReference;
 import dev.kobu.interpreter.ast.eval.ValueExpr;
 
 import java.util.HashSet;
 import java.util.Map;
 
-public class ArrayAccessExpr implements Expr, HasTypeScope, MemoryReference {
+public class ArrayAccessExpr implements Expr, HasTypeScope, HasValueScope, MemoryReference {
 
     private final SourceCodeRef sourceCodeRef;
 
@@ -54,8 +55,6 @@ public class ArrayAccessExpr implements Expr, HasTypeScope, MemoryReference {
 
     private Type typeScope;
 
-    private ValueExpr valueScope;
-
     private boolean assignMode = false;
 
     private Type type;
@@ -95,15 +94,17 @@ public class ArrayAccessExpr implements Expr, HasTypeScope, MemoryReference {
 
     @Override
     public ValueExpr evalExpr(EvalContext context) {
-        var arrayValue = getArrayExpr(context);
+        return evalExpr(context, null);
+    }
+
+    @Override
+    public ValueExpr evalExpr(EvalContext context, ValueExpr valueScope) {
+        var arrayValue = getArrayExpr(context, valueScope);
         return indexExpr.eval(context, arrayValue);
     }
 
-    private ArrayValueExpr getArrayExpr(EvalContext context) {
-        if (arrayExpr instanceof HasTypeScope) {
-            ((HasTypeScope)arrayExpr).setValueScope(valueScope);
-        }
-        ValueExpr arrayValue = arrayExpr.evalExpr(context);
+    private ArrayValueExpr getArrayExpr(EvalContext context, ValueExpr valueScope) {
+        ValueExpr arrayValue = HasValueScope.evalExpr(arrayExpr, context, valueScope);
         if (arrayValue instanceof NullValueExpr) {
             throw new NullPointerError(sourceCodeRef, arrayExpr.getSourceCodeRef());
         }
@@ -139,11 +140,6 @@ public class ArrayAccessExpr implements Expr, HasTypeScope, MemoryReference {
         this.typeScope = typeScope;
     }
 
-    @Override
-    public void setValueScope(ValueExpr valueScope) {
-        this.valueScope = valueScope;
-    }
-
     @Override
     public void setFunctionRefMode() {
 
@@ -161,12 +157,17 @@ public class ArrayAccessExpr implements Expr, HasTypeScope, MemoryReference {
 
     @Override
     public void assign(EvalContext context, ValueExpr value) {
-        var arrayValue = getArrayExpr(context);
+        assign(context, null, value);
+    }
+
+    @Override
+    public void assign(EvalContext context, ValueExpr valueScope, ValueExpr value) {
+        var arrayValue = getArrayExpr(context, valueScope);
         var indexValue = indexExpr.getIndexValue(context, arrayValue);
 
         arrayValue.assign(sourceCodeRef, indexValue, value);
         if (arrayExpr instanceof MemoryReference) {
-            ((MemoryReference)arrayExpr).assign(context, arrayValue);
+            ((MemoryReference)arrayExpr).assign(context, valueScope, arrayValue);
         }
     }
 }
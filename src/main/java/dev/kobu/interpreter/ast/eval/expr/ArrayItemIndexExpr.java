@@ -81,7 +81,7 @@ public class ArrayItemIndexExpr implements ArrayIndexExpr {
         var indexValue = getIndexExpr(context, arrayValue);
 
         List<ValueExpr> array = arrayValue.getValue();
-        int index = indexValue.getValue().intValue();
+        int index = indexValue.intValue();
 
         if (index < -(array.size()) || index >= array.size()) {
             throw new ArrayIndexOutOfBoundsError(sourceCodeRef, arrayValue, index);
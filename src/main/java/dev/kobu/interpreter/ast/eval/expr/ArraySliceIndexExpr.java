@@ -96,7 +96,7 @@ public class ArraySliceIndexExpr implements ArrayIndexExpr {
         int endIndex = arrayExpr.getValue().size();
 
         if (begin != null) {
-            beginIndex = getIndexExpr(context, arrayExpr, begin).getValue().intValue();
+            beginIndex = getIndexExpr(context, arrayExpr, begin).intValue();
             if (beginIndex < -(arrayExpr.getValue().size()) || beginIndex >= arrayExpr.getValue().size()) {
                 throw new ArrayIndexOutOfBoundsError(sourceCodeRef, arrayExpr, beginIndex);
             }
@@ -106,7 +106,7 @@ public class ArraySliceIndexExpr implements ArrayIndexExpr {
         }
 
         if (end != null) {
-            endIndex = getIndexExpr(context, arrayExpr, end).getValue().intValue();
+            endIndex = getIndexExpr(context, arrayExpr, end).intValue();
             if (endIndex < -(arrayExpr.getValue().size()) || endIndex >= arrayExpr.getValue().size()) {
                 throw new ArrayIndexOutOfBoundsError(sourceCodeRef, arrayExpr, endIndex);
             }
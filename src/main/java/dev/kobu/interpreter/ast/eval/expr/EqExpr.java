@@ -137,8 +137,8 @@ public class EqExpr implements Expr {
                 return new BooleanValueExpr(sourceCodeRef, leftValue.compareTo(rightValue) >= 0);
             }
         } else if (leftValueExpr instanceof NumberValueExpr && rightValueExpr instanceof NumberValueExpr) {
-            var leftValue = ((NumberValueExpr)leftValueExpr).getValue().doubleValue();
-            var rightValue = ((NumberValueExpr)rightValueExpr).getValue().doubleValue();
+            var leftValue = ((NumberValueExpr)leftValueExpr).doubleValue();
+            var rightValue = ((NumberValueExpr)rightValueExpr).doubleValue();
 
             if (operator.equals(EqOperatorEnum.EQUALS)) {
                 return new BooleanValueExpr(sourceCodeRef, leftValue == rightValue);
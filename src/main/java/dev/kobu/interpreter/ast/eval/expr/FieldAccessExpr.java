@@ -41,7 +41,7 @@ import dev.kobu.interpreter.ast.symbol.UnknownType;
 import java.util.List;
 import java.util.Map;
 
-public class FieldAccessExpr implements Expr, MemoryReference, HasTypeScope, HasTypeParameters, UndefinedSymbolNotifier {
+public class FieldAccessExpr implements Expr, MemoryReference, HasTypeScope, HasValueScope, HasTypeParameters, UndefinedSymbolNotifier {
 
     private final SourceCodeRef sourceCodeRef;
 
@@ -57,8 +57,6 @@ public class FieldAccessExpr implements Expr, MemoryReference, HasTypeScope, Has
 
     private Type typeScope;
 
-    private ValueExpr valueScope;
-
     private UndefinedSymbolListener undefinedSymbolListener;
 
     public FieldAccessExpr(SourceCodeRef sourceCodeRef, Expr leftExpr, Expr rightExpr) {
@@ -118,19 +116,18 @@ public class FieldAccessExpr implements Expr, MemoryReference, HasTypeScope, Has
 
     @Override
     public ValueExpr evalExpr(EvalContext context) {
+        return evalExpr(context, null);
+    }
 
-        if (valueScope != null && leftExpr instanceof HasTypeScope) {
-            ((HasTypeScope)leftExpr).setValueScope(valueScope);
-        }
-        var value = leftExpr.evalExpr(context);
+    @Override
+    public ValueExpr evalExpr(EvalContext context, ValueExpr valueScope) {
 
-        if (rightExpr instanceof HasTypeScope) {
-            ((HasTypeScope)rightExpr).setValueScope(value);
-        } else {
+        var value = HasValueScope.evalExpr(leftExpr, context, valueScope);
+
+        if (!(rightExpr instanceof HasValueScope)) {
             throw new InternalInterpreterError("Invalid Expression", getSourceCodeRef());
         }
-        value = rightExpr.evalExpr(context);
-        return value;
+        return ((HasValueScope)rightExpr).evalExpr(context, value);
     }
 
     @Override
@@ -181,13 +178,15 @@ public class FieldAccessExpr implements Expr, MemoryReference, HasTypeScope, Has
 
     @Override
     public void assign(EvalContext context, ValueExpr value) {
+        assign(context, null, value);
+    }
 
-        var refValue = leftExpr.evalExpr(context);
-        if (rightExpr instanceof HasTypeScope) {
-            ((HasTypeScope)rightExpr).setValueScope(refValue);
-        }
+    @Override
+    public void assign(EvalContext context, ValueExpr valueScope, ValueExpr value) {
+
+        var refValue = HasValueScope.evalExpr(leftExpr, context, valueScope);
         if (rightExpr instanceof MemoryReference) {
-            ((MemoryReference)rightExpr).assign(context, value);
+            ((MemoryReference)rightExpr).assign(context, refValue, value);
             return;
         }
 
@@ -201,11 +200,6 @@ public class FieldAccessExpr implements Expr, MemoryReference, HasTypeScope, Has
         this.typeScope = typeScope;
     }
 
-    @Override
-    public void setValueScope(ValueExpr valueScope) {
-        this.valueScope = valueScope;
-    }
-
     @Override
     public void registerUndefinedSymbolListener(UndefinedSymbolListener listener) {
         this.undefinedSymbolListener = listener;
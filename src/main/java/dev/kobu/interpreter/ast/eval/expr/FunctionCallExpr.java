@@ -31,6 +31,7 @@ import dev.kobu.interpreter.ast.eval.expr.value.AnonymousFunctionValueExpr;
 import dev.kobu.interpreter.ast.eval.expr.value.FunctionRefValueExpr;
 import dev.kobu.interpreter.ast.eval.expr.value.NullValueExpr;
 import dev.kobu.interpreter.ast.symbol.*;
+import dev.kobu.interpreter.ast.symbol.function.FunctionSymbol;
 import dev.kobu.interpreter.ast.symbol.function.FunctionType;
 import dev.kobu.interpreter.ast.symbol.function.FunctionWrapperDocumentationSource;
 import dev.kobu.interpreter.ast.symbol.function.KobuFunction;
@@ -38,14 +39,11 @@ import dev.kobu.interpreter.ast.symbol.function.NamedFunction;
 import dev.kobu.interpreter.ast.symbol.generics.HasTypeParameters;
 import dev.kobu.interpreter.ast.symbol.generics.TypeAlias;
 import dev.kobu.interpreter.ast.symbol.generics.TypeArgs;
+import dev.kobu.interpreter.error.EvalError;
 import dev.kobu.interpreter.error.analyzer.*;
 import dev.kobu.interpreter.error.eval.InternalInterpreterError;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.*;
 
 public class FunctionCallExpr implements Expr, UndefinedSymbolListener {
 
@@ -63,6 +61,10 @@ public class FunctionCallExpr implements Expr, UndefinedSymbolListener {
 
     private TypeArgs typeArgs;
 
+    private KobuFunction boundFunction;
+
+    private Expr receiverExpr;
+
     public FunctionCallExpr(SourceCodeRef sourceCodeRef,
                             ModuleScope moduleScope, Expr functionRefExpr, List<FunctionArgExpr> args) {
         this.sourceCodeRef = sourceCodeRef;
@@ -73,6 +75,8 @@ public class FunctionCallExpr implements Expr, UndefinedSymbolListener {
 
     @Override
     public void analyze(EvalContext context) {
+        boundFunction = null;
+        receiverExpr = null;
         if (functionRefExpr instanceof UndefinedSymbolNotifier) {
             ((UndefinedSymbolNotifier) functionRefExpr).registerUndefinedSymbolListener(this);
         }
@@ -126,6 +130,7 @@ public class FunctionCallExpr implements Expr, UndefinedSymbolListener {
         }
 
         this.type = analyzeCall(context, (FunctionType) functionRefExpr.getType());
+        bindCall();
     }
 
     public void setTypeArgs(TypeArgs typeArgs) {
@@ -212,23 +217,37 @@ public class FunctionCallExpr implements Expr, UndefinedSymbolListener {
         return returnType;
     }
 
+    private void bindCall() {
+        if (functionRefExpr instanceof RefExpr) {
+            boundFunction = ((RefExpr) functionRefExpr).getFunction();
+        } else if (functionRefExpr instanceof FieldAccessExpr) {
+            var fieldAccessExpr = (FieldAccessExpr) functionRefExpr;
+            if (fieldAccessExpr.getRightExpr() instanceof RefExpr) {
+                boundFunction = ((RefExpr) fieldAccessExpr.getRightExpr()).getFunction();
+                if (boundFunction != null && !(fieldAccessExpr.getLeftExpr().getType() instanceof ModuleRefSymbol)) {
+                    receiverExpr = fieldAccessExpr.getLeftExpr();
+                }
+            }
+        }
+    }
+
     @Override
     public ValueExpr evalExpr(EvalContext context) {
 
+        if (boundFunction != null) {
+            ValueExpr receiver = receiverExpr != null ? receiverExpr.evalExpr(context) : null;
+            return invoke(context, receiver, boundFunction, evalArgs(context));
+        }
+
         var functionValueExpr = functionRefExpr.evalExpr(context);
 
-        var argValList = args.stream()
-                .map(arg -> arg.evalExpr(context)).collect(Collectors.toList());
+        List<ValueExpr> argValList = evalArgs(context);
         if (functionValueExpr instanceof FunctionRefValueExpr) {
             FunctionRefValueExpr functionRef = (FunctionRefValueExpr) functionValueExpr;
-            if (functionRef.getValueScope() != null) {
-                return context.evalMethod(functionRef.getValueScope(), functionRef.getFunction(), argValList, sourceCodeRef);
-            } else {
-                return context.evalFunction(functionRef.getFunction(), argValList, sourceCodeRef);
-            }
+            return invoke(context, functionRef.getValueScope(), functionRef.getFunction(), argValList);
         } else if (functionValueExpr instanceof AnonymousFunctionValueExpr) {
             AnonymousFunctionValueExpr anonymousFunction = (AnonymousFunctionValueExpr) functionValueExpr;
-            return context.evalFunction(anonymousFunction, argValList, sourceCodeRef);
+            return invoke(context, null, anonymousFunction, argValList);
         }
 
         throw new InternalInterpreterError("Unrecognized function type: " + functionValueExpr.getClass(),
@@ -236,6 +255,33 @@ public class FunctionCallExpr implements Expr, UndefinedSymbolListener {
 
     }
 
+    private ValueExpr invoke(EvalContext context, ValueExpr receiver, KobuFunction function, List<ValueExpr> argValList) {
+        try {
+            if (receiver != null) {
+                return context.evalMethod(receiver, function, argValList, sourceCodeRef);
+            }
+            return context.evalFunction(function, argValList, sourceCodeRef);
+        } catch (EvalError error) {
+            error.addCallSite(sourceCodeRef);
+            throw error;
+        }
+    }
+
+    public FunctionSymbol getTailCallTarget() {
+        if (receiverExpr == null && boundFunction instanceof FunctionSymbol) {
+            return (FunctionSymbol) boundFunction;
+        }
+        return null;
+    }
+
+    public List<ValueExpr> evalArgs(EvalContext context) {
+        List<ValueExpr> argValList = new ArrayList<>(args.size());
+        for (FunctionArgExpr arg : args) {
+            argValList.add(arg.evalExpr(context));
+        }
+        return argValList;
+    }
+
     @Override
     public SourceCodeRef getSourceCodeRef() {
         return sourceCodeRef;
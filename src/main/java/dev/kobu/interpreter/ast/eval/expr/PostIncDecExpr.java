@@ -35,7 +35,7 @@ import dev.kobu.interpreter.error.analyzer.InvalidTypeError;
 
 import java.util.Map;
 
-public class PostIncDecExpr implements Statement, Expr, HasTypeScope, Assignment {
+public class PostIncDecExpr implements Statement, Expr, HasTypeScope, HasValueScope, Assignment {
 
     private final SourceCodeRef sourceCodeRef;
 
@@ -45,8 +45,6 @@ public class PostIncDecExpr implements Statement, Expr, HasTypeScope, Assignment
 
     private Type typeScope;
 
-    private ValueExpr valueScope;
-
     private Type type;
 
     public PostIncDecExpr(SourceCodeRef sourceCodeRef, Expr refExpr, IncDecOperatorEnum operator) {
@@ -98,20 +96,22 @@ public class PostIncDecExpr implements Statement, Expr, HasTypeScope, Assignment
 
     @Override
     public ValueExpr evalExpr(EvalContext context) {
-        return eval(context);
+        return eval(context, null);
+    }
+
+    @Override
+    public ValueExpr evalExpr(EvalContext context, ValueExpr valueScope) {
+        return eval(context, valueScope);
     }
 
     @Override
     public void evalStat(EvalContext context) {
-        eval(context);
+        eval(context, null);
     }
 
-    private ValueExpr eval(EvalContext context) {
+    private ValueExpr eval(EvalContext context, ValueExpr valueScope) {
 
-        if (valueScope != null && refExpr instanceof HasTypeScope) {
-            ((HasTypeScope)refExpr).setValueScope(valueScope);
-        }
-        ValueExpr val = refExpr.evalExpr(context);
+        ValueExpr val = HasValueScope.evalExpr(refExpr, context, valueScope);
 
         if (!(val instanceof NumberValueExpr)) {
             throw new InternalInterpreterError("Expected 'number', but got '" + val.getType() + "'", sourceCodeRef);
@@ -124,7 +124,7 @@ public class PostIncDecExpr implements Statement, Expr, HasTypeScope, Assignment
             newVal = ((NumberValueExpr)val).dec();
         }
 
-        ((MemoryReference)refExpr).assign(context, newVal);
+        ((MemoryReference)refExpr).assign(context, valueScope, newVal);
         return val;
     }
 
@@ -132,9 +132,4 @@ public class PostIncDecExpr implements Statement, Expr, HasTypeScope, Assignment
     public void setTypeScope(Type typeScope) {
         this.typeScope = typeScope;
     }
-
-    @Override
-    public void setValueScope(ValueExpr valueScope) {
-        this.valueScope = valueScope;
-    }
 }
@@ -40,7 +40,7 @@ import dev.kobu.interpreter.error.eval.NullPointerError;
 
 import java.util.*;
 
-public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementRef, UndefinedSymbolNotifier, HasTypeParameters {
+public class RefExpr implements Expr, HasTypeScope, HasValueScope, MemoryReference, HasElementRef, UndefinedSymbolNotifier, HasTypeParameters {
 
     private final ModuleScope moduleScope;
 
@@ -52,8 +52,6 @@ public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementR
 
     private Type typeScope;
 
-    private ValueExpr valueScope;
-
     private Type type;
 
     private RuleSymbol ruleSymbol;
@@ -68,6 +66,10 @@ public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementR
 
     private SourceCodeRef elementRef;
 
+    private LocalSlot localSlot;
+
+    private ValueExpr refValue;
+
     private Collection<SymbolDescriptor> symbolsInScope;
 
     private UndefinedSymbolListener undefinedSymbolListener;
@@ -95,6 +97,8 @@ public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementR
 
     @Override
     public void analyze(EvalContext context) {
+        localSlot = null;
+        refValue = null;
         if (typeScope == null) {
             if (context.getEvalMode() == EvalModeEnum.ANALYZER_SERVICE) {
                 this.symbolsInScope = context.getCurrentScope()
@@ -128,6 +132,7 @@ public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementR
             if (symbol instanceof VariableSymbol) {
                 this.elementRef = symbol.getSourceCodeRef();
                 this.type = ((VariableSymbol) symbol).getType();
+                this.localSlot = context.getCurrentScope().resolveSlot(symbolName);
                 return;
             }
             if (symbol instanceof ConstantSymbol) {
@@ -143,12 +148,14 @@ public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementR
                     this.ruleSymbol = (RuleSymbol) symbol;
                     this.elementRef = this.ruleSymbol.getSourceCodeRef();
                     this.type = BuiltinScope.RULE_REF_TYPE;
+                    this.refValue = new RuleRefValueExpr(sourceCodeRef, ruleSymbol);
                     return;
                 }
                 if (symbol instanceof RecordTypeSymbol) {
                     this.recordTypeSymbol = (RecordTypeSymbol) symbol;
                     this.elementRef = this.recordTypeSymbol.getSourceCodeRef();
                     this.type = new ParameterizedRecordTypeRef(this.recordTypeSymbol);
+                    this.refValue = new RecordTypeRefValueExpr(sourceCodeRef, recordTypeSymbol);
                     return;
                 }
                 if (functionRefMode && symbol instanceof HasConstructor) {
@@ -156,6 +163,7 @@ public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementR
                     this.elementRef = constructor.getSourceCodeRef();
                     this.function = constructor;
                     this.type = this.function.getType();
+                    this.refValue = new FunctionRefValueExpr(sourceCodeRef, function, null);
                     return;
                 }
                 if (symbol instanceof ModuleRefSymbol) {
@@ -167,6 +175,7 @@ public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementR
                     this.elementRef = symbol.getSourceCodeRef();
                     this.function = (KobuFunction) symbol;
                     this.type = this.function.getType();
+                    this.refValue = new FunctionRefValueExpr(sourceCodeRef, function, null);
                     return;
                 }
             }
@@ -197,6 +206,7 @@ public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementR
                 if (method != null) {
                     this.function = method;
                     this.type = method.getType();
+                    this.refValue = new FunctionRefValueExpr(sourceCodeRef, function, null);
                 } else if (undefinedSymbolListener != null) {
                     this.type = UnknownType.INSTANCE;
                     undefinedSymbolListener.onUndefinedSymbol(context, typeScope, symbolName);
@@ -220,19 +230,27 @@ public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementR
 
     @Override
     public ValueExpr evalExpr(EvalContext context) {
-        if (ruleSymbol != null) {
-            return new RuleRefValueExpr(sourceCodeRef, ruleSymbol);
-        }
-        if (recordTypeSymbol != null) {
-            return new RecordTypeRefValueExpr(sourceCodeRef, recordTypeSymbol);
+        return evalExpr(context, null);
+    }
+
+    @Override
+    public ValueExpr evalExpr(EvalContext context, ValueExpr valueScope) {
+        if (ruleSymbol != null || recordTypeSymbol != null) {
+            return refValue;
         }
         if (function != null) {
-            if (valueScope instanceof ModuleRefValueExpr) {
-                return new FunctionRefValueExpr(sourceCodeRef, function, null);
+            if (valueScope == null || valueScope instanceof ModuleRefValueExpr) {
+                return refValue;
             }
             return new FunctionRefValueExpr(sourceCodeRef, function, valueScope);
         }
         if (valueScope == null) {
+            if (localSlot != null) {
+                var valueExpr = localSlot.getValue(context.getCurrentScope());
+                if (valueExpr != null) {
+                    return valueExpr;
+                }
+            }
             var symbol = context.getCurrentScope().resolve(symbolName);
             if (symbol == null) {
                 throw new InternalInterpreterError("Variable '" + symbolName + "' not defined in scope",
@@ -296,11 +314,6 @@ public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementR
         this.typeScope = typeScope;
     }
 
-    @Override
-    public void setValueScope(ValueExpr valueScope) {
-        this.valueScope = valueScope;
-    }
-
     @Override
     public void setFunctionRefMode() {
         this.functionRefMode = true;
@@ -318,8 +331,15 @@ public class RefExpr implements Expr, HasTypeScope, MemoryReference, HasElementR
 
     @Override
     public void assign(EvalContext context, ValueExpr value) {
+        assign(context, null, value);
+    }
+
+    @Override
+    public void assign(EvalContext context, ValueExpr valueScope, ValueExpr value) {
         if (valueScope == null) {
-            context.getCurrentScope().setValue(symbolName, value);
+            if (localSlot == null || !localSlot.setValue(context.getCurrentScope(), value)) {
+                context.getCurrentScope().setValue(symbolName, value);
+            }
         } else {
             if (valueScope instanceof NullValueExpr) {
                 throw new NullPointerError(valueScope.getSourceCodeRef(), valueScope.getSourceCodeRef());
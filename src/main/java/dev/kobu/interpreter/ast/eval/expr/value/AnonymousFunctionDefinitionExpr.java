@@ -25,6 +25,7 @@ SOFTWARE.
 package dev.kobu.interpreter.ast.eval.expr.value;
 
 import dev.kobu.interpreter.ast.AnalyzerContext;
+import dev.kobu.interpreter.ast.eval.ClosureScope;
 import dev.kobu.interpreter.ast.eval.Evaluable;
 import dev.kobu.interpreter.ast.eval.Expr;
 import dev.kobu.interpreter.ast.eval.HasTargetType;
@@ -41,10 +42,7 @@ import dev.kobu.interpreter.error.analyzer.FunctionMissingReturnStatError;
 import dev.kobu.interpreter.error.analyzer.InvalidRequiredFunctionParamError;
 import dev.kobu.interpreter.error.eval.InternalInterpreterError;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 public class AnonymousFunctionDefinitionExpr implements Expr, HasTargetType, UserDefinedFunction {
@@ -67,6 +65,10 @@ public class AnonymousFunctionDefinitionExpr implements Expr, HasTargetType, Use
 
     private Map<String, Type> resolvedTypes;
 
+    private List<Symbol> freeVariables = new ArrayList<>();
+
+    private Symbol[] parameterSymbols;
+
     public AnonymousFunctionDefinitionExpr(SourceCodeRef sourceCodeRef, SourceCodeRef closeBlockSourceCodeRef,
                                            ModuleScope moduleScope, List<FunctionParameter> parameters,
                                            List<Evaluable> block) {
@@ -107,11 +109,9 @@ public class AnonymousFunctionDefinitionExpr implements Expr, HasTargetType, Use
 
     @Override
     public void analyze(EvalContext context) {
-        var scope = context.getCurrentScope();
+        var closureScope = new ClosureScope(moduleScope, context.getCurrentScope());
         var fnCtx = context.getProvider().newEvalContext(context.getAnalyzerContext(),
-                moduleScope, this);
-        fnCtx.getCurrentScope().addAll(scope);
-        fnCtx.pushNewScope();
+                moduleScope, this, closureScope);
 
         if (targetType instanceof FunctionType) {
             FunctionType targetFunctionType = (FunctionType) targetType;
@@ -137,6 +137,7 @@ public class AnonymousFunctionDefinitionExpr implements Expr, HasTargetType, Use
         }
 
         Map<String, FunctionParameter> paramsMap = new HashMap<>();
+        List<Symbol> symbols = new ArrayList<>();
         FunctionParameter lastOptionalParam = null;
         for (FunctionParameter parameter : parameters) {
             FunctionParameter currentParam = paramsMap.get(parameter.getName());
@@ -157,7 +158,9 @@ public class AnonymousFunctionDefinitionExpr implements Expr, HasTargetType, Use
             VariableSymbol variableSymbol = new VariableSymbol(moduleScope,
                     parameter.getSourceCodeRef(), parameter.getName(), parameter.getType());
             fnCtx.getCurrentScope().define(fnCtx.getAnalyzerContext(), variableSymbol);
+            symbols.add(variableSymbol);
         }
+        parameterSymbols = symbols.toArray(new Symbol[0]);
 
         var branch = fnCtx.pushNewBranch();
         fnCtx.analyzeBlock(block);
@@ -175,8 +178,12 @@ public class AnonymousFunctionDefinitionExpr implements Expr, HasTargetType, Use
         }
 
         fnCtx.popBranch();
-        fnCtx.popScope();
+        freeVariables = closureScope.getFreeVariables();
+
+    }
 
+    public Symbol[] getParameterSymbols() {
+        return parameterSymbols;
     }
 
     @Override
@@ -187,7 +194,8 @@ public class AnonymousFunctionDefinitionExpr implements Expr, HasTargetType, Use
 
     @Override
     public ValueExpr evalExpr(EvalContext context) {
-        return new AnonymousFunctionValueExpr(this, moduleScope, context.getCurrentScope());
+        return new AnonymousFunctionValueExpr(this, moduleScope,
+                new ClosureScope(moduleScope, context.getCurrentScope(), freeVariables));
     }
 
     @Override
@@ -47,12 +47,12 @@ public class AnonymousFunctionValueExpr implements ValueExpr, UserDefinedFunctio
 
     private final ModuleScope moduleScope;
 
-    private final LocalScope evalScope;
+    private final LocalScope closureScope;
 
-    public AnonymousFunctionValueExpr(AnonymousFunctionDefinitionExpr definition, ModuleScope moduleScope, LocalScope evalScope) {
+    public AnonymousFunctionValueExpr(AnonymousFunctionDefinitionExpr definition, ModuleScope moduleScope, LocalScope closureScope) {
         this.definition = definition;
         this.moduleScope = moduleScope;
-        this.evalScope = evalScope;
+        this.closureScope = closureScope;
     }
 
     @Override
@@ -92,21 +92,8 @@ public class AnonymousFunctionValueExpr implements ValueExpr, UserDefinedFunctio
 
     @Override
     public ValueExpr eval(AnalyzerContext analyzerContext, EvalContextProvider evalContextProvider, List<ValueExpr> args) {
-        var context = evalContextProvider.newEvalContext(analyzerContext, moduleScope, this);
-        var scope = context.getCurrentScope();
-        scope.addAll(evalScope);
-
-        for (int i = 0; i < definition.getParameters().size(); i++) {
-            FunctionParameter parameter = definition.getParameters().get(i);
-            ValueExpr arg = i < args.size() ? args.get(i) : null;
-
-            VariableSymbol variableSymbol = new VariableSymbol(moduleScope, parameter.getSourceCodeRef(), parameter.getName(),
-                    parameter.getType());
-            scope.define(analyzerContext, variableSymbol);
-            if (arg != null) {
-                scope.setValue(parameter.getName(), arg);
-            }
-        }
+        var context = evalContextProvider.newEvalContext(analyzerContext, moduleScope, this, closureScope);
+        context.getCurrentScope().bindArguments(definition.getParameterSymbols(), args);
         context.evalBlock(definition.getBlock());
         if (context.getErrorValue() != null) {
             throw new UserDefinedError(context.getErrorValue());
@@ -62,7 +62,7 @@ public class ArrayValueExpr implements ValueExpr, HasMethods {
     }
 
     public void assign(SourceCodeRef sourceCodeRef, NumberValueExpr indexExpr, ValueExpr value) {
-        int index = indexExpr.getValue().intValue();
+        int index = indexExpr.intValue();
         if (index < 0 || index >= this.value.size()) {
             throw new ArrayIndexOutOfBoundsError(sourceCodeRef, this, index);
         }
@@ -33,24 +33,63 @@ import dev.kobu.interpreter.ast.symbol.function.NamedFunction;
 import dev.kobu.interpreter.ast.symbol.value.StringTypeSymbol;
 import dev.kobu.interpreter.ast.utils.StringFunctions;
 
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 
 public class StringValueExpr implements ValueExpr, HasMethods {
 
     private SourceCodeRef sourceCodeRef;
 
-    private final String value;
+    private static final int MIN_ROPE_LENGTH = 256;
+
+    private volatile String value;
+
+    private StringValueExpr left;
+
+    private StringValueExpr right;
+
+    private final int length;
 
     private final StringTypeSymbol type = BuiltinScope.STRING_TYPE;
 
     public StringValueExpr(String value) {
         this.value = value;
+        this.length = value != null ? value.length() : 0;
     }
 
     public StringValueExpr(SourceCodeRef sourceCodeRef, String value) {
         this.sourceCodeRef = sourceCodeRef;
         this.value = value;
+        this.length = value != null ? value.length() : 0;
+    }
+
+    private StringValueExpr(SourceCodeRef sourceCodeRef, StringValueExpr left, StringValueExpr right) {
+        this.sourceCodeRef = sourceCodeRef;
+        this.left = left;
+        this.right = right;
+        this.length = left.length + right.length;
+    }
+
+    public static StringValueExpr concat(SourceCodeRef sourceCodeRef, StringValueExpr left, StringValueExpr right) {
+        // a null value is concatenated as "null", as with plain strings
+        left = nullToText(left);
+        right = nullToText(right);
+        if (left.length + right.length < MIN_ROPE_LENGTH) {
+            return new StringValueExpr(sourceCodeRef, left.getValue() + right.getValue());
+        }
+        if (right.length == 0) {
+            return left;
+        }
+        if (left.length == 0) {
+            return right;
+        }
+        return new StringValueExpr(sourceCodeRef, left, right);
+    }
+
+    private static StringValueExpr nullToText(StringValueExpr valueExpr) {
+        if (valueExpr.length == 0 && valueExpr.value == null) {
+            return new StringValueExpr(valueExpr.sourceCodeRef, "null");
+        }
+        return valueExpr;
     }
 
     @Override
@@ -74,6 +113,46 @@ public class StringValueExpr implements ValueExpr, HasMethods {
     }
 
     public String getValue() {
+        String str = value;
+        if (str == null) {
+            str = flatten();
+        }
+        return str;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    private synchronized String flatten() {
+        if (value != null || left == null) {
+            return value;
+        }
+        StringBuilder out = new StringBuilder(length);
+        Deque<StringValueExpr> stack = new ArrayDeque<>();
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            StringValueExpr node = stack.pop();
+            String str;
+            StringValueExpr nodeLeft;
+            StringValueExpr nodeRight;
+            // children can be shared with other ropes that flatten concurrently, so the value and
+            // the children are read together under the node's lock
+            synchronized (node) {
+                str = node.value;
+                nodeLeft = node.left;
+                nodeRight = node.right;
+            }
+            if (str != null || nodeLeft == null) {
+                out.append(str);
+            } else {
+                stack.push(nodeRight);
+                stack.push(nodeLeft);
+            }
+        }
+        value = out.toString();
+        left = null;
+        right = null;
         return value;
     }
 
@@ -84,7 +163,7 @@ public class StringValueExpr implements ValueExpr, HasMethods {
 
     @Override
     public String getStringValue(Set<Integer> idSet) {
-        return '"' + StringFunctions.encodeString(value) + '"';
+        return '"' + StringFunctions.encodeString(getValue()) + '"';
     }
 
     @Override
@@ -94,7 +173,7 @@ public class StringValueExpr implements ValueExpr, HasMethods {
 
     @Override
     public SnapshotValue getSnapshotValue() {
-        return new StringSnapshotValue(this.value);
+        return new StringSnapshotValue(getValue());
     }
 
     @Override
@@ -102,12 +181,12 @@ public class StringValueExpr implements ValueExpr, HasMethods {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         StringValueExpr valueExpr = (StringValueExpr) o;
-        return value.equals(valueExpr.value);
+        return length == valueExpr.length && getValue().equals(valueExpr.getValue());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Objects.hash(getValue());
     }
 
     private static class StringSnapshotValue implements SnapshotValue {
@@ -31,6 +31,7 @@ import dev.kobu.interpreter.ast.eval.context.SnapshotValue;
 import dev.kobu.interpreter.ast.symbol.*;
 import dev.kobu.interpreter.ast.template.TemplateExecutor;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Set;
 
@@ -88,13 +89,35 @@ public class TemplateValueExpr implements ValueExpr, Fact {
         return rootRecord;
     }
 
-    public String getValue() {
+    public TemplateExecutor getTemplateExecutor() {
+        return templateExecutor;
+    }
+
+    public synchronized String getValue() {
         if (value == null) {
             value = templateExecutor.execute();
         }
         return value;
     }
 
+    /**
+     * Writes the rendered template to out. The first render streams to out and keeps the
+     * rendered text, so the body is evaluated once and every later read sees the same text.
+     */
+    public synchronized void writeTo(Appendable out) throws IOException {
+        if (value != null) {
+            out.append(value);
+            return;
+        }
+        StringBuilder rendered = new StringBuilder();
+        TeeAppendable tee = new TeeAppendable(out, rendered);
+        templateExecutor.execute(tee);
+        value = rendered.toString();
+        if (tee.error != null) {
+            throw tee.error;
+        }
+    }
+
     @Override
     public SourceCodeRef getSourceCodeRef() {
         return null;
@@ -177,6 +200,56 @@ public class TemplateValueExpr implements ValueExpr, Fact {
         return Objects.hash(id);
     }
 
+    /**
+     * Copies the output to a buffer. A failing out stops receiving output but the render
+     * completes, so the body is still evaluated once; the failure is rethrown afterwards.
+     */
+    private static class TeeAppendable implements Appendable {
+
+        private final Appendable out;
+
+        private final StringBuilder copy;
+
+        private IOException error;
+
+        TeeAppendable(Appendable out, StringBuilder copy) {
+            this.out = out;
+            this.copy = copy;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            if (error == null) {
+                try {
+                    out.append(csq, start, end);
+                } catch (IOException e) {
+                    error = e;
+                }
+            }
+            copy.append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            if (error == null) {
+                try {
+                    out.append(c);
+                } catch (IOException e) {
+                    error = e;
+                }
+            }
+            copy.append(c);
+            return this;
+        }
+
+    }
+
     private static class TemplateSnapshotValue implements SnapshotValue {
 
         private final int id;
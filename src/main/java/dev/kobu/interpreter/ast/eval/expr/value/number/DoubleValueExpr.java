@@ -26,88 +26,132 @@ package dev.kobu.interpreter.ast.eval.expr.value.number;
 
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
+import java.util.Set;
+
 public class DoubleValueExpr extends NumberValueExpr {
 
-    public DoubleValueExpr(Double value) {
-        super(value);
+    protected final double value;
+
+    public DoubleValueExpr(double value) {
+        this.value = value;
+    }
+
+    public DoubleValueExpr(SourceCodeRef sourceCodeRef, double value) {
+        super(sourceCodeRef);
+        this.value = value;
+    }
+
+    @Override
+    public Double getValue() {
+        return value;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) value;
+    }
+
+    @Override
+    public long longValue() {
+        return (long) value;
     }
 
-    public DoubleValueExpr(SourceCodeRef sourceCodeRef, Double value) {
-        super(sourceCodeRef, value);
+    @Override
+    public double doubleValue() {
+        return value;
     }
 
     @Override
     public NumberValueExpr inc() {
-        return new DoubleValueExpr(value.doubleValue() + 1);
+        return new DoubleValueExpr(value + 1);
     }
 
     @Override
     public NumberValueExpr dec() {
-        return new DoubleValueExpr(value.doubleValue() - 1);
+        return new DoubleValueExpr(value - 1);
     }
 
     @Override
     public NumberValueExpr abs() {
-        return new DoubleValueExpr(Math.abs(value.doubleValue()));
+        return new DoubleValueExpr(Math.abs(value));
     }
 
     @Override
     public NumberValueExpr add(IntegerValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() + other.value.doubleValue());
+        return new DoubleValueExpr(value + other.value);
     }
 
     @Override
     public NumberValueExpr add(LongValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() + other.value.doubleValue());
+        return new DoubleValueExpr(value + other.value);
     }
 
     @Override
     public NumberValueExpr add(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() + other.value.doubleValue());
+        return new DoubleValueExpr(value + other.value);
     }
 
     @Override
     public NumberValueExpr sub(IntegerValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() - other.value.doubleValue());
+        return new DoubleValueExpr(value - other.value);
     }
 
     @Override
     public NumberValueExpr sub(LongValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() - other.value.doubleValue());
+        return new DoubleValueExpr(value - other.value);
     }
 
     @Override
     public NumberValueExpr sub(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() - other.value.doubleValue());
+        return new DoubleValueExpr(value - other.value);
     }
 
     @Override
     public NumberValueExpr mult(IntegerValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() * other.value.doubleValue());
+        return new DoubleValueExpr(value * other.value);
     }
 
     @Override
     public NumberValueExpr mult(LongValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() * other.value.doubleValue());
+        return new DoubleValueExpr(value * other.value);
     }
 
     @Override
     public NumberValueExpr mult(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() * other.value.doubleValue());
+        return new DoubleValueExpr(value * other.value);
     }
 
     @Override
     public NumberValueExpr div(IntegerValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() / other.value.doubleValue());
+        return new DoubleValueExpr(value / other.value);
     }
 
     @Override
     public NumberValueExpr div(LongValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() / other.value.doubleValue());
+        return new DoubleValueExpr(value / other.value);
     }
 
     @Override
     public NumberValueExpr div(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() / other.value.doubleValue());
+        return new DoubleValueExpr(value / other.value);
+    }
+
+    @Override
+    public String getStringValue(Set<Integer> idSet) {
+        return Double.toString(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DoubleValueExpr that = (DoubleValueExpr) o;
+        return Double.compare(value, that.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
     }
+
 }
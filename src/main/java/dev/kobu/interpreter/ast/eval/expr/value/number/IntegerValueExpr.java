@@ -26,89 +26,151 @@ package dev.kobu.interpreter.ast.eval.expr.value.number;
 
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
+import java.util.Set;
+
 public class IntegerValueExpr extends NumberValueExpr {
 
-    public IntegerValueExpr(Integer value) {
-        super(value);
+    private static final int CACHE_LOW = -128;
+
+    private static final int CACHE_HIGH = 1024;
+
+    private static final IntegerValueExpr[] CACHE = new IntegerValueExpr[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new IntegerValueExpr(CACHE_LOW + i);
+        }
+    }
+
+    protected final int value;
+
+    public IntegerValueExpr(int value) {
+        this.value = value;
+    }
+
+    public IntegerValueExpr(SourceCodeRef sourceCodeRef, int value) {
+        super(sourceCodeRef);
+        this.value = value;
+    }
+
+    public static IntegerValueExpr valueOf(int value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[value - CACHE_LOW];
+        }
+        return new IntegerValueExpr(value);
+    }
+
+    @Override
+    public Integer getValue() {
+        return value;
+    }
+
+    @Override
+    public int intValue() {
+        return value;
+    }
+
+    @Override
+    public long longValue() {
+        return value;
     }
 
-    public IntegerValueExpr(SourceCodeRef sourceCodeRef, Integer value) {
-        super(sourceCodeRef, value);
+    @Override
+    public double doubleValue() {
+        return value;
     }
 
     @Override
     public NumberValueExpr inc() {
-        return new IntegerValueExpr(value.intValue() + 1);
+        return IntegerValueExpr.valueOf(value + 1);
     }
 
     @Override
     public NumberValueExpr dec() {
-        return new IntegerValueExpr(value.intValue() - 1);
+        return IntegerValueExpr.valueOf(value - 1);
     }
 
     @Override
     public NumberValueExpr abs() {
-        return new IntegerValueExpr(value.intValue());
+        return IntegerValueExpr.valueOf(value);
     }
 
     @Override
     public NumberValueExpr add(IntegerValueExpr other) {
-        return new IntegerValueExpr(value.intValue() + other.value.intValue());
+        return IntegerValueExpr.valueOf(value + other.value);
     }
 
     @Override
     public NumberValueExpr add(LongValueExpr other) {
-        return new LongValueExpr(value.intValue() + other.value.longValue());
+        return new LongValueExpr(value + other.value);
     }
 
     @Override
     public NumberValueExpr add(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.intValue() + other.value.doubleValue());
+        return new DoubleValueExpr(value + other.value);
     }
 
     @Override
     public NumberValueExpr sub(IntegerValueExpr other) {
-        return new IntegerValueExpr(value.intValue() - other.value.intValue());
+        return IntegerValueExpr.valueOf(value - other.value);
     }
 
     @Override
     public NumberValueExpr sub(LongValueExpr other) {
-        return new LongValueExpr(value.intValue() - other.value.longValue());
+        return new LongValueExpr(value - other.value);
     }
 
     @Override
     public NumberValueExpr sub(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.intValue() - other.value.doubleValue());
+        return new DoubleValueExpr(value - other.value);
     }
 
     @Override
     public NumberValueExpr mult(IntegerValueExpr other) {
-        return new IntegerValueExpr(value.intValue() * other.value.intValue());
+        return IntegerValueExpr.valueOf(value * other.value);
     }
 
     @Override
     public NumberValueExpr mult(LongValueExpr other) {
-        return new LongValueExpr(value.intValue() * other.value.longValue());
+        return new LongValueExpr(value * other.value);
     }
 
     @Override
     public NumberValueExpr mult(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.intValue() * other.value.doubleValue());
+        return new DoubleValueExpr(value * other.value);
     }
 
     @Override
     public NumberValueExpr div(IntegerValueExpr other) {
-        return new DoubleValueExpr(value.intValue() / other.value.doubleValue());
+        return new DoubleValueExpr(value / other.doubleValue());
     }
 
     @Override
     public NumberValueExpr div(LongValueExpr other) {
-        return new DoubleValueExpr(value.intValue() / other.value.doubleValue());
+        return new DoubleValueExpr(value / other.doubleValue());
     }
 
     @Override
     public NumberValueExpr div(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.intValue() / other.value.doubleValue());
+        return new DoubleValueExpr(value / other.doubleValue());
+    }
+
+    @Override
+    public String getStringValue(Set<Integer> idSet) {
+        return Integer.toString(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IntegerValueExpr that = (IntegerValueExpr) o;
+        return value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
     }
 
 }
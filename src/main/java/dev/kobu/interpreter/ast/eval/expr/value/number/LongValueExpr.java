@@ -26,88 +26,132 @@ package dev.kobu.interpreter.ast.eval.expr.value.number;
 
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-public class LongValueExpr extends NumberValueExpr{
+import java.util.Set;
 
-    public LongValueExpr(Long value) {
-        super(value);
+public class LongValueExpr extends NumberValueExpr {
+
+    protected final long value;
+
+    public LongValueExpr(long value) {
+        this.value = value;
+    }
+
+    public LongValueExpr(SourceCodeRef sourceCodeRef, long value) {
+        super(sourceCodeRef);
+        this.value = value;
+    }
+
+    @Override
+    public Long getValue() {
+        return value;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) value;
+    }
+
+    @Override
+    public long longValue() {
+        return value;
     }
 
-    public LongValueExpr(SourceCodeRef sourceCodeRef, Long value) {
-        super(sourceCodeRef, value);
+    @Override
+    public double doubleValue() {
+        return value;
     }
 
     @Override
     public NumberValueExpr inc() {
-        return new LongValueExpr(value.longValue() + 1);
+        return new LongValueExpr(value + 1);
     }
 
     @Override
     public NumberValueExpr dec() {
-        return new LongValueExpr(value.longValue() - 1);
+        return new LongValueExpr(value - 1);
     }
 
     @Override
     public NumberValueExpr abs() {
-        return new LongValueExpr(Math.abs(value.longValue()));
+        return new LongValueExpr(Math.abs(value));
     }
 
     @Override
     public NumberValueExpr add(IntegerValueExpr other) {
-        return new LongValueExpr(value.longValue() + other.value.intValue());
+        return new LongValueExpr(value + other.value);
     }
 
     @Override
     public NumberValueExpr add(LongValueExpr other) {
-        return new LongValueExpr(value.longValue() + other.value.longValue());
+        return new LongValueExpr(value + other.value);
     }
 
     @Override
     public NumberValueExpr add(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.longValue() + other.value.doubleValue());
+        return new DoubleValueExpr(value + other.value);
     }
 
     @Override
     public NumberValueExpr sub(IntegerValueExpr other) {
-        return new LongValueExpr(value.longValue() - other.value.intValue());
+        return new LongValueExpr(value - other.value);
     }
 
     @Override
     public NumberValueExpr sub(LongValueExpr other) {
-        return new LongValueExpr(value.longValue() - other.value.longValue());
+        return new LongValueExpr(value - other.value);
     }
 
     @Override
     public NumberValueExpr sub(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.longValue() - other.value.doubleValue());
+        return new DoubleValueExpr(value - other.value);
     }
 
     @Override
     public NumberValueExpr mult(IntegerValueExpr other) {
-        return new LongValueExpr(value.longValue() * other.value.intValue());
+        return new LongValueExpr(value * other.value);
     }
 
     @Override
     public NumberValueExpr mult(LongValueExpr other) {
-        return new LongValueExpr(value.longValue() * other.value.longValue());
+        return new LongValueExpr(value * other.value);
     }
 
     @Override
     public NumberValueExpr mult(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.longValue() * other.value.doubleValue());
+        return new DoubleValueExpr(value * other.value);
     }
 
     @Override
     public NumberValueExpr div(IntegerValueExpr other) {
-        return new DoubleValueExpr(value.longValue() / other.value.doubleValue());
+        return new DoubleValueExpr(value / other.doubleValue());
     }
 
     @Override
     public NumberValueExpr div(LongValueExpr other) {
-        return new DoubleValueExpr(value.longValue() / other.value.doubleValue());
+        return new DoubleValueExpr(value / other.doubleValue());
     }
 
     @Override
     public NumberValueExpr div(DoubleValueExpr other) {
-        return new DoubleValueExpr(value.longValue() / other.value.doubleValue());
+        return new DoubleValueExpr(value / other.doubleValue());
+    }
+
+    @Override
+    public String getStringValue(Set<Integer> idSet) {
+        return Long.toString(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LongValueExpr that = (LongValueExpr) o;
+        return value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
     }
+
 }
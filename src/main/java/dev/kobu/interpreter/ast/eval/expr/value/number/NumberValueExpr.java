@@ -39,17 +39,13 @@ public abstract class NumberValueExpr implements ValueExpr, HasMethods {
 
     private SourceCodeRef sourceCodeRef;
 
-    protected final Number value;
-
     private final NumberTypeSymbol type = BuiltinScope.NUMBER_TYPE;
 
-    public NumberValueExpr(Number value) {
-        this.value = value;
+    public NumberValueExpr() {
     }
 
-    public NumberValueExpr(SourceCodeRef sourceCodeRef, Number value) {
+    public NumberValueExpr(SourceCodeRef sourceCodeRef) {
         this.sourceCodeRef = sourceCodeRef;
-        this.value = value;
     }
 
     @Override
@@ -77,9 +73,13 @@ public abstract class NumberValueExpr implements ValueExpr, HasMethods {
         return type.resolveMethod(methodName);
     }
 
-    public Number getValue() {
-        return value;
-    }
+    public abstract Number getValue();
+
+    public abstract int intValue();
+
+    public abstract long longValue();
+
+    public abstract double doubleValue();
 
     public NumberValueExpr add(NumberValueExpr other) {
         if (other instanceof IntegerValueExpr) {
@@ -122,23 +122,23 @@ public abstract class NumberValueExpr implements ValueExpr, HasMethods {
     }
 
     public NumberValueExpr mod(NumberValueExpr other) {
-        return new DoubleValueExpr(value.doubleValue() % other.value.doubleValue());
+        return new DoubleValueExpr(doubleValue() % other.doubleValue());
     }
 
     public NumberValueExpr ceil() {
-        return new DoubleValueExpr(Math.ceil(value.doubleValue()));
+        return new DoubleValueExpr(Math.ceil(doubleValue()));
     }
 
     public NumberValueExpr floor() {
-        return new DoubleValueExpr(Math.floor(value.doubleValue()));
+        return new DoubleValueExpr(Math.floor(doubleValue()));
     }
 
     public NumberValueExpr pow(NumberValueExpr exp) {
-        return new DoubleValueExpr(Math.pow(value.doubleValue(), exp.value.doubleValue()));
+        return new DoubleValueExpr(Math.pow(doubleValue(), exp.doubleValue()));
     }
 
     public NumberValueExpr round() {
-        return new LongValueExpr(Math.round(value.doubleValue()));
+        return new LongValueExpr(Math.round(doubleValue()));
     }
 
     public abstract NumberValueExpr inc();
@@ -162,11 +162,6 @@ public abstract class NumberValueExpr implements ValueExpr, HasMethods {
     public abstract NumberValueExpr div(LongValueExpr other);
     public abstract NumberValueExpr div(DoubleValueExpr other);
 
-    @Override
-    public String getStringValue(Set<Integer> idSet) {
-        return value.toString();
-    }
-
     @Override
     public void prettyPrint(Set<Integer> idSet, StringBuilder out, int level) {
         out.append(getStringValue(idSet));
@@ -174,20 +169,7 @@ public abstract class NumberValueExpr implements ValueExpr, HasMethods {
 
     @Override
     public SnapshotValue getSnapshotValue() {
-        return new NumberSnapshotValue(value);
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        NumberValueExpr that = (NumberValueExpr) o;
-        return value.equals(that.value);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(value);
+        return new NumberSnapshotValue(getValue());
     }
 
     private static class NumberSnapshotValue implements SnapshotValue {
@@ -33,21 +33,38 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.EvalError;
 import dev.kobu.interpreter.error.eval.BuiltinFunctionError;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Collectors;
 
 public abstract class BuiltinFunction {
 
+    private static final ValueExpr[] NO_ARGS = new ValueExpr[0];
+
+    private final String[] parameterNames;
+
     private NamedFunction funcDef;
 
+    protected BuiltinFunction() {
+        this.parameterNames = null;
+    }
+
+    /**
+     * Declares the parameters read from the positional arguments, in order. A definition that
+     * declares other parameters fails when it is registered instead of reading the wrong argument.
+     */
+    protected BuiltinFunction(String... parameterNames) {
+        this.parameterNames = parameterNames;
+    }
+
     public void setFuncDef(NamedFunction funcDef) {
+        checkParameters(funcDef);
         this.funcDef = funcDef;
     }
 
     public ValueExpr run(EvalContext context, List<ValueExpr> args, SourceCodeRef sourceCodeRef) {
         try {
-            return run(context, toMap(args), sourceCodeRef);
+            return run(context, toArray(args), sourceCodeRef);
         } catch (EvalError err) {
             throw err;
         } catch (Throwable t) {
@@ -57,7 +74,7 @@ public abstract class BuiltinFunction {
 
     public ValueExpr run(EvalContext context, ValueExpr object, List<ValueExpr> args, SourceCodeRef sourceCodeRef) {
         try {
-            return run(context, object, toMap(args), sourceCodeRef);
+            return run(context, object, toArray(args), sourceCodeRef);
         } catch (EvalError err) {
             throw err;
         } catch (Throwable t) {
@@ -69,22 +86,41 @@ public abstract class BuiltinFunction {
         return funcDef;
     }
 
-    protected abstract ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef);
+    protected abstract ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef);
 
-    protected abstract ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef);
+    protected abstract ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef);
 
     public abstract String getDocumentation();
 
-    private Map<String, ValueExpr> toMap(List<ValueExpr> args) {
-        Map<String, ValueExpr> mapArgs = new HashMap<>();
-        for (int i = 0; i < funcDef.getParameters().size() && i < args.size(); i++) {
-            FunctionParameter param = funcDef.getParameters().get(i);
+    private void checkParameters(NamedFunction funcDef) {
+        if (parameterNames == null) {
+            return;
+        }
+        List<FunctionParameter> parameters = funcDef.getParameters();
+        boolean matches = parameters.size() == parameterNames.length;
+        for (int i = 0; matches && i < parameterNames.length; i++) {
+            matches = parameterNames[i].equals(parameters.get(i).getName());
+        }
+        if (!matches) {
+            throw new IllegalStateException(funcDef.getName() + " is declared with parameters " +
+                    parameters.stream().map(FunctionParameter::getName).collect(Collectors.toList()) +
+                    ", but " + getClass().getSimpleName() + " reads " + Arrays.toString(parameterNames));
+        }
+    }
+
+    private ValueExpr[] toArray(List<ValueExpr> args) {
+        int size = funcDef.getParameters().size();
+        if (size == 0) {
+            return NO_ARGS;
+        }
+        ValueExpr[] values = new ValueExpr[size];
+        for (int i = 0; i < size && i < args.size(); i++) {
             ValueExpr value = args.get(i);
             if (!(value instanceof NullValueExpr)) {
-                mapArgs.put(param.getName(), value);
+                values[i] = value;
             }
         }
-        return mapArgs;
+        return values;
     }
 
 }
@@ -28,12 +28,17 @@ import dev.kobu.interpreter.ast.eval.context.EvalContext;
 import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
-
 public abstract class BuiltinGlobalFunction extends BuiltinFunction {
 
+    protected BuiltinGlobalFunction() {
+    }
+
+    protected BuiltinGlobalFunction(String... parameterNames) {
+        super(parameterNames);
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         throw new UnsupportedOperationException(getFuncDef().getName() + " is not a method of " +
                 object.getType().getName() + ".");
     }
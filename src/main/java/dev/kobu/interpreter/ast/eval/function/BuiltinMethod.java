@@ -28,12 +28,17 @@ import dev.kobu.interpreter.ast.eval.context.EvalContext;
 import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
-
 public abstract class BuiltinMethod extends BuiltinFunction {
 
+    protected BuiltinMethod() {
+    }
+
+    protected BuiltinMethod(String... parameterNames) {
+        super(parameterNames);
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         throw new UnsupportedOperationException(getFuncDef().getName() + " is not a global function.");
     }
 
@@ -24,7 +24,15 @@ SOFTWARE.
 
 package dev.kobu.interpreter.ast.eval.function;
 
+import dev.kobu.interpreter.ast.eval.ValueExpr;
+import dev.kobu.interpreter.ast.eval.context.EvalContext;
 import dev.kobu.interpreter.ast.symbol.ModuleScope;
+import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
+import dev.kobu.interpreter.ast.symbol.function.FunctionParameter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public abstract class NativeFunction extends BuiltinGlobalFunction {
 
@@ -35,6 +43,13 @@ public abstract class NativeFunction extends BuiltinGlobalFunction {
         return null;
     }
 
+    @Override
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        return run(context, toMap(args), sourceCodeRef);
+    }
+
+    protected abstract ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef);
+
     public ModuleScope getModuleScope() {
         return moduleScope;
     }
@@ -43,4 +58,15 @@ public abstract class NativeFunction extends BuiltinGlobalFunction {
         this.moduleScope = moduleScope;
     }
 
+    private Map<String, ValueExpr> toMap(ValueExpr[] args) {
+        Map<String, ValueExpr> mapArgs = new HashMap<>();
+        List<FunctionParameter> parameters = getFuncDef().getParameters();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] != null) {
+                mapArgs.put(parameters.get(i).getName(), args[i]);
+            }
+        }
+        return mapArgs;
+    }
+
 }
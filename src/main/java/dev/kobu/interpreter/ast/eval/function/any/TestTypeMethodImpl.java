@@ -31,7 +31,6 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.ast.symbol.Type;
 
-import java.util.Map;
 
 public class TestTypeMethodImpl extends BuiltinMethod {
 
@@ -42,7 +41,7 @@ public class TestTypeMethodImpl extends BuiltinMethod {
     }
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
 
         return BooleanValueExpr.fromValue(type.isAssignableFrom(object.getType()));
 
@@ -30,14 +30,19 @@ import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class ArrayAddAllMethodImpl extends BuiltinMethod {
 
+    private static final int ARR = 0;
+
+    public ArrayAddAllMethodImpl() {
+        super("arr");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr value = (ArrayValueExpr) object;
-        ArrayValueExpr arr = (ArrayValueExpr) args.get("arr");
+        ArrayValueExpr arr = (ArrayValueExpr) args[ARR];
 
         value.getValue().addAll(arr.getValue());
 
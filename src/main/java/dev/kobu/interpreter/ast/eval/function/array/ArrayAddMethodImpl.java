@@ -30,14 +30,19 @@ import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class ArrayAddMethodImpl extends BuiltinMethod {
 
+    private static final int ELEM = 0;
+
+    public ArrayAddMethodImpl() {
+        super("elem");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
-        ValueExpr elemExpr = args.get("elem");
+        ValueExpr elemExpr = args[ELEM];
 
         arrayExpr.getValue().add(elemExpr);
 
@@ -32,14 +32,19 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class ArrayConcatMethodImpl extends BuiltinMethod {
 
+    private static final int ARR = 0;
+
+    public ArrayConcatMethodImpl() {
+        super("arr");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr value = (ArrayValueExpr) object;
-        ArrayValueExpr arr = (ArrayValueExpr) args.get("arr");
+        ArrayValueExpr arr = (ArrayValueExpr) args[ARR];
 
         List<ValueExpr> valueList = new ArrayList<>();
         valueList.addAll(value.getValue());
@@ -31,14 +31,19 @@ import dev.kobu.interpreter.ast.eval.expr.value.BooleanValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class ArrayContainsMethodImpl extends BuiltinMethod {
 
+    private static final int VALUE = 0;
+
+    public ArrayContainsMethodImpl() {
+        super("value");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
-        ValueExpr valueExpr = args.get("value");
+        ValueExpr valueExpr = args[VALUE];
         return BooleanValueExpr.fromValue(arrayExpr.getValue().contains(valueExpr));
     }
 
@@ -35,7 +35,7 @@ import java.util.*;
 public class ArrayDistinctMethodImpl extends BuiltinMethod {
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr value = (ArrayValueExpr) object;
         Set<ValueExpr> valueSet = new HashSet<>();
 
@@ -39,14 +39,19 @@ import dev.kobu.interpreter.error.eval.InternalInterpreterError;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class ArrayFilterMethodImpl extends BuiltinMethod {
 
+    private static final int PRED = 0;
+
+    public ArrayFilterMethodImpl() {
+        super("pred");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
-        ValueExpr pred = args.get("pred");
+        ValueExpr pred = args[PRED];
 
         if (pred == null || pred instanceof NullValueExpr) {
             throw new IllegalArgumentError("predicate cannot be null", sourceCodeRef);
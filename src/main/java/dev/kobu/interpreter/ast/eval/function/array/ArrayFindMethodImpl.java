@@ -33,14 +33,19 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.ast.utils.FunctionUtils;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
-import java.util.Map;
 
 public class ArrayFindMethodImpl extends BuiltinMethod {
 
+    private static final int PRED = 0;
+
+    public ArrayFindMethodImpl() {
+        super("pred");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
-        ValueExpr pred = args.get("pred");
+        ValueExpr pred = args[PRED];
 
         if (pred == null || pred instanceof NullValueExpr) {
             throw new IllegalArgumentError("predicate cannot be null", sourceCodeRef);
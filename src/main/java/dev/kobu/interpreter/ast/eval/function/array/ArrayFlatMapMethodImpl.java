@@ -38,14 +38,19 @@ import dev.kobu.interpreter.error.eval.InternalInterpreterError;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class ArrayFlatMapMethodImpl extends BuiltinMethod {
 
+    private static final int FN = 0;
+
+    public ArrayFlatMapMethodImpl() {
+        super("fn");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
-        ValueExpr fn = args.get("fn");
+        ValueExpr fn = args[FN];
 
         if (fn == null || fn instanceof NullValueExpr) {
             throw new IllegalArgumentError("function 'fn' cannot be null", sourceCodeRef);
@@ -35,14 +35,19 @@ import dev.kobu.interpreter.ast.utils.FunctionUtils;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
 import java.util.List;
-import java.util.Map;
 
 public class ArrayForEachMethodImpl extends BuiltinMethod {
 
+    private static final int FN = 0;
+
+    public ArrayForEachMethodImpl() {
+        super("fn");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
-        ValueExpr fn = args.get("fn");
+        ValueExpr fn = args[FN];
 
         if (fn == null || fn instanceof NullValueExpr) {
             throw new IllegalArgumentError("function 'fn' cannot be null", sourceCodeRef);
@@ -31,23 +31,28 @@ import dev.kobu.interpreter.ast.eval.expr.value.number.IntegerValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class ArrayIndexOfMethodImpl extends BuiltinMethod {
 
+    private static final int VALUE = 0;
+
+    public ArrayIndexOfMethodImpl() {
+        super("value");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
-        ValueExpr valueExpr = args.get("value");
+        ValueExpr valueExpr = args[VALUE];
 
         for (int i = 0; i < arrayExpr.getValue().size(); i++) {
             ValueExpr obj = arrayExpr.getValue().get(i);
             if (obj.equals(valueExpr)) {
-                return new IntegerValueExpr(i);
+                return IntegerValueExpr.valueOf(i);
             }
         }
 
-        return new IntegerValueExpr(-1);
+        return IntegerValueExpr.valueOf(-1);
     }
 
     @Override
@@ -37,19 +37,24 @@ import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class ArrayPartitionMethodImpl extends BuiltinMethod {
 
+    private static final int SIZE = 0;
+
+    public ArrayPartitionMethodImpl() {
+        super("size");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
-        ValueExpr sizeExpr = args.get("size");
+        ValueExpr sizeExpr = args[SIZE];
 
         if (sizeExpr == null || sizeExpr instanceof NullValueExpr) {
             throw new IllegalArgumentError("'size' cannot be null", sourceCodeRef);
         }
-        int size = ((NumberValueExpr) sizeExpr).getValue().intValue();
+        int size = ((NumberValueExpr) sizeExpr).intValue();
         if (size <= 0) {
             throw new IllegalArgumentError("'size' must be greater than 0", sourceCodeRef);
         }
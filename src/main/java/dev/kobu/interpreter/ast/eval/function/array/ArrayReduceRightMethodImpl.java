@@ -34,16 +34,23 @@ import dev.kobu.interpreter.ast.utils.FunctionUtils;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
 import java.util.List;
-import java.util.Map;
 
 public class ArrayReduceRightMethodImpl extends BuiltinMethod {
 
+    private static final int REDUCER = 0;
+
+    private static final int ACC = 1;
+
+    public ArrayReduceRightMethodImpl() {
+        super("reducer", "acc");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
         List<ValueExpr> valueList = arrayExpr.getValue();
-        ValueExpr reducer = args.get("reducer");
-        ValueExpr acc = args.get("acc");
+        ValueExpr reducer = args[REDUCER];
+        ValueExpr acc = args[ACC];
 
         if (reducer == null || reducer instanceof NullValueExpr) {
             throw new IllegalArgumentError("reducer cannot be null", sourceCodeRef);
@@ -31,16 +31,21 @@ import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class ArrayRemoveMethodImpl extends BuiltinMethod {
 
+    private static final int INDEX = 0;
+
+    public ArrayRemoveMethodImpl() {
+        super("index");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
-        NumberValueExpr indexExpr = (NumberValueExpr) args.get("index");
+        NumberValueExpr indexExpr = (NumberValueExpr) args[INDEX];
 
-        return arrayExpr.getValue().remove(indexExpr.getValue().intValue());
+        return arrayExpr.getValue().remove(indexExpr.intValue());
     }
 
     @Override
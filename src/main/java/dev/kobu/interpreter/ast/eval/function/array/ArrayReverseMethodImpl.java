@@ -31,12 +31,11 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
 import java.util.Collections;
-import java.util.Map;
 
 public class ArrayReverseMethodImpl extends BuiltinMethod {
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
 
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
 
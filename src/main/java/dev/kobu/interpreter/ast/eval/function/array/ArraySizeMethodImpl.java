@@ -31,15 +31,14 @@ import dev.kobu.interpreter.ast.eval.expr.value.number.IntegerValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class ArraySizeMethodImpl extends BuiltinMethod {
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
 
-        return new IntegerValueExpr(arrayExpr.getValue().size());
+        return IntegerValueExpr.valueOf(arrayExpr.getValue().size());
     }
 
     @Override
@@ -31,18 +31,23 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.ast.utils.FunctionUtils;
 
-import java.util.Map;
 
 public class ArraySortMethod extends BuiltinMethod {
 
+    private static final int COMPARATOR = 0;
+
+    public ArraySortMethod() {
+        super("comparator");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
-        ValueExpr comparator = args.get("comparator");
+        ValueExpr comparator = args[COMPARATOR];
 
         arrayExpr.getValue()
                 .sort((o1, o2) -> FunctionUtils.runComparator(context, comparator, o1, o2, sourceCodeRef)
-                        .getValue().intValue());
+                        .intValue());
 
         return null;
     }
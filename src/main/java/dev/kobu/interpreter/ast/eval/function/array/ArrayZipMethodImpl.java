@@ -37,14 +37,19 @@ import dev.kobu.interpreter.ast.symbol.tuple.TupleTypeFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class ArrayZipMethodImpl extends BuiltinMethod {
 
+    private static final int THAT = 0;
+
+    public ArrayZipMethodImpl() {
+        super("that");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         ArrayValueExpr arrayExpr = (ArrayValueExpr) object;
-        ArrayValueExpr thatExpr = (ArrayValueExpr) args.get("that");
+        ArrayValueExpr thatExpr = (ArrayValueExpr) args[THAT];
 
         List<ValueExpr> list1 = arrayExpr.getValue();
         List<ValueExpr> list2 = thatExpr.getValue();
@@ -33,19 +33,24 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinGlobalFunction;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
 import java.util.Date;
-import java.util.Map;
 
 public class DateConstructorImpl extends BuiltinGlobalFunction {
 
+    private static final int DATE = 0;
+
+    public DateConstructorImpl() {
+        super("date");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        ValueExpr epochTime = args.get("date");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        ValueExpr epochTime = args[DATE];
 
         Date date;
         if (epochTime == null || epochTime instanceof NullValueExpr) {
             date = new Date();
         } else {
-            date = new Date(((NumberValueExpr)epochTime).getValue().longValue());
+            date = new Date(((NumberValueExpr)epochTime).longValue());
         }
 
         return new DateValueExpr(sourceCodeRef, date);
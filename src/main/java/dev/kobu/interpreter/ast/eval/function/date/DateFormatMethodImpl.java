@@ -34,14 +34,19 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
-import java.util.Map;
 
 public class DateFormatMethodImpl extends BuiltinMethod {
 
+    private static final int DATE = 0;
+
+    public DateFormatMethodImpl() {
+        super("date");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         DateFormatterValueExpr formatter = (DateFormatterValueExpr) object;
-        ValueExpr dateExpr = args.get("date");
+        ValueExpr dateExpr = args[DATE];
 
         if (dateExpr == null || dateExpr instanceof NullValueExpr) {
             throw new IllegalArgumentError("date cannot be null", sourceCodeRef);
@@ -34,13 +34,18 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
 import java.text.SimpleDateFormat;
-import java.util.Map;
 
 public class DateFormatterConstructorImpl extends BuiltinGlobalFunction {
 
+    private static final int PATTERN = 0;
+
+    public DateFormatterConstructorImpl() {
+        super("pattern");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        ValueExpr patternExpr = args.get("pattern");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        ValueExpr patternExpr = args[PATTERN];
 
         if (patternExpr == null || patternExpr instanceof NullValueExpr) {
             throw new IllegalArgumentError("pattern cannot be null", sourceCodeRef);
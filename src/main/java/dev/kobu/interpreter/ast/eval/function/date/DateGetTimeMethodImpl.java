@@ -31,12 +31,11 @@ import dev.kobu.interpreter.ast.eval.expr.value.number.LongValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class DateGetTimeMethodImpl extends BuiltinMethod {
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         DateValueExpr dateValue = (DateValueExpr) object;
         return new LongValueExpr(dateValue.getValue().getTime());
     }
@@ -37,14 +37,19 @@ import dev.kobu.interpreter.error.eval.InvalidCallError;
 
 import java.text.ParseException;
 import java.util.Date;
-import java.util.Map;
 
 public class DateParserMethodImpl extends BuiltinMethod {
 
+    private static final int SOURCE = 0;
+
+    public DateParserMethodImpl() {
+        super("source");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         DateFormatterValueExpr formatter = (DateFormatterValueExpr) object;
-        ValueExpr sourceExpr = args.get("source");
+        ValueExpr sourceExpr = args[SOURCE];
 
         if (sourceExpr == null || sourceExpr instanceof NullValueExpr) {
             throw new IllegalArgumentError("source cannot be null", sourceCodeRef);
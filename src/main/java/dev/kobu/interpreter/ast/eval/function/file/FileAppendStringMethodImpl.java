@@ -38,16 +38,23 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.Charset;
-import java.util.Map;
 
 public class FileAppendStringMethodImpl extends BuiltinMethod {
 
+    private static final int TEXT = 0;
+
+    private static final int CHARSET = 1;
+
+    public FileAppendStringMethodImpl() {
+        super("text", "charset");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         FileValueExpr fileExpr = (FileValueExpr) object;
         File file = fileExpr.getFile();
-        ValueExpr textExpr = args.get("text");
-        ValueExpr charsetExpr = args.get("charset");
+        ValueExpr textExpr = args[TEXT];
+        ValueExpr charsetExpr = args[CHARSET];
 
         if (textExpr == null || textExpr instanceof NullValueExpr) {
             throw new IllegalArgumentError("'text' cannot be null", sourceCodeRef);
@@ -36,24 +36,31 @@ import dev.kobu.interpreter.error.eval.BuiltinFunctionError;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.charset.Charset;
-import java.util.Map;
 
 public class FileAppendTemplateMethodImpl extends BuiltinMethod {
 
+    private static final int TEMPLATE = 0;
+
+    private static final int CHARSET = 1;
+
+    public FileAppendTemplateMethodImpl() {
+        super("template", "charset");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         FileValueExpr fileExpr = (FileValueExpr) object;
         File file = fileExpr.getFile();
-        ValueExpr templateExpr = args.get("template");
-        ValueExpr charsetExpr = args.get("charset");
+        ValueExpr templateExpr = args[TEMPLATE];
+        ValueExpr charsetExpr = args[CHARSET];
 
         if (templateExpr == null || templateExpr instanceof NullValueExpr) {
             throw new IllegalArgumentError("'template' cannot be null", sourceCodeRef);
         }
-        String text = ((TemplateValueExpr)templateExpr).getValue();
+        TemplateValueExpr template = (TemplateValueExpr) templateExpr;
 
         Charset charset = Charset.defaultCharset();
         if (charsetExpr instanceof StringValueExpr) {
@@ -61,8 +68,8 @@ public class FileAppendTemplateMethodImpl extends BuiltinMethod {
         }
 
         try {
-            try (FileWriter fileWriter = new FileWriter(file, charset)) {
-                fileWriter.append(text);
+            try (Writer writer = context.getFileSystem().getWriter(file.toPath(), charset, true)) {
+                template.writeTo(writer);
             }
         } catch (IOException e) {
             throw new BuiltinFunctionError(e, sourceCodeRef);
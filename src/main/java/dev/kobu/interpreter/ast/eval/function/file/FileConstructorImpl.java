@@ -33,13 +33,18 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinGlobalFunction;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
-import java.util.Map;
 
 public class FileConstructorImpl extends BuiltinGlobalFunction {
 
+    private static final int PATH = 0;
+
+    public FileConstructorImpl() {
+        super("path");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        ValueExpr pathValueExpr = args.get("path");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        ValueExpr pathValueExpr = args[PATH];
 
         if (pathValueExpr == null || pathValueExpr instanceof NullValueExpr) {
             throw new IllegalArgumentError("'path' cannot be null", sourceCodeRef);
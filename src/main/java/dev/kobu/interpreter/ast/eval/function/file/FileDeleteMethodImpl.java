@@ -31,12 +31,11 @@ import dev.kobu.interpreter.ast.eval.expr.value.FileValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class FileDeleteMethodImpl extends BuiltinMethod {
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         FileValueExpr fileValueExpr = (FileValueExpr) object;
         return BooleanValueExpr.fromValue(fileValueExpr.getFile().delete());
     }
@@ -36,12 +36,11 @@ import dev.kobu.interpreter.ast.symbol.array.ArrayTypeFactory;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Map;
 
 public class FileListMethodImpl extends BuiltinMethod {
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         FileValueExpr fileValueExpr = (FileValueExpr) object;
         File file = fileValueExpr.getFile();
         if (file.isDirectory()) {
@@ -36,15 +36,20 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.util.Map;
 
 public class FileReadMethodImpl extends BuiltinMethod {
 
+    private static final int CHARSET = 0;
+
+    public FileReadMethodImpl() {
+        super("charset");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         FileValueExpr fileExpr = (FileValueExpr) object;
         File file = fileExpr.getFile();
-        ValueExpr charsetExpr = args.get("charset");
+        ValueExpr charsetExpr = args[CHARSET];
 
         Charset charset = Charset.defaultCharset();
         if (charsetExpr instanceof StringValueExpr) {
@@ -37,16 +37,23 @@ import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
-import java.util.Map;
 
 public class FileWriteStringMethodImpl extends BuiltinMethod {
 
+    private static final int TEXT = 0;
+
+    private static final int CHARSET = 1;
+
+    public FileWriteStringMethodImpl() {
+        super("text", "charset");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         FileValueExpr fileExpr = (FileValueExpr) object;
         File file = fileExpr.getFile();
-        ValueExpr textExpr = args.get("text");
-        ValueExpr charsetExpr = args.get("charset");
+        ValueExpr textExpr = args[TEXT];
+        ValueExpr charsetExpr = args[CHARSET];
 
         if (textExpr == null || textExpr instanceof NullValueExpr) {
             throw new IllegalArgumentError("'text' cannot be null", sourceCodeRef);
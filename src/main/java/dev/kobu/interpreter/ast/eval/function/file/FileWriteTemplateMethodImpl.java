@@ -38,21 +38,28 @@ import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
-import java.util.Map;
 
 public class FileWriteTemplateMethodImpl extends BuiltinMethod {
 
+    private static final int TEMPLATE = 0;
+
+    private static final int CHARSET = 1;
+
+    public FileWriteTemplateMethodImpl() {
+        super("template", "charset");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         FileValueExpr fileExpr = (FileValueExpr) object;
         File file = fileExpr.getFile();
-        ValueExpr templateExpr = args.get("template");
-        ValueExpr charsetExpr = args.get("charset");
+        ValueExpr templateExpr = args[TEMPLATE];
+        ValueExpr charsetExpr = args[CHARSET];
 
         if (templateExpr == null || templateExpr instanceof NullValueExpr) {
             throw new IllegalArgumentError("'template' cannot be null", sourceCodeRef);
         }
-        String text = ((TemplateValueExpr)templateExpr).getValue();
+        TemplateValueExpr template = (TemplateValueExpr) templateExpr;
 
         Charset charset = Charset.defaultCharset();
         if (charsetExpr instanceof StringValueExpr) {
@@ -60,7 +67,7 @@ public class FileWriteTemplateMethodImpl extends BuiltinMethod {
         }
 
         try {
-            context.getFileSystem().writeFileContent(file.toPath(), text, charset);
+            context.getFileSystem().writeFileContent(file.toPath(), charset, template::writeTo);
         } catch (IOException e) {
             throw new BuiltinFunctionError(e, sourceCodeRef);
         }
@@ -35,13 +35,18 @@ import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class FlatArrayFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int ARRAY = 0;
+
+    public FlatArrayFunctionImpl() {
+        super("array");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        ArrayValueExpr arrayValueExpr = (ArrayValueExpr) args.get("array");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        ArrayValueExpr arrayValueExpr = (ArrayValueExpr) args[ARRAY];
 
         if (arrayValueExpr == null) {
             throw new IllegalArgumentError("'array' cannot be null", sourceCodeRef);
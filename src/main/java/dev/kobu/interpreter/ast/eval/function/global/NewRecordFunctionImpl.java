@@ -32,13 +32,18 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.ast.utils.RecordFactory;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
-import java.util.Map;
 
 public class NewRecordFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int TYPE = 0;
+
+    public NewRecordFunctionImpl() {
+        super("type");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        RecordTypeRefValueExpr type = (RecordTypeRefValueExpr) args.get("type");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        RecordTypeRefValueExpr type = (RecordTypeRefValueExpr) args[TYPE];
 
         if (type == null) {
             throw new IllegalArgumentError("'type' cannot be null", sourceCodeRef);
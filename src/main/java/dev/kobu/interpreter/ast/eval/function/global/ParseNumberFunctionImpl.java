@@ -32,13 +32,18 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinGlobalFunction;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
-import java.util.Map;
 
 public class ParseNumberFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int STR = 0;
+
+    public ParseNumberFunctionImpl() {
+        super("str");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        StringValueExpr strExpr = (StringValueExpr) args.get("str");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        StringValueExpr strExpr = (StringValueExpr) args[STR];
 
         if (strExpr == null) {
             throw new IllegalArgumentError("'str' cannot be null", sourceCodeRef);
@@ -30,13 +30,18 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinGlobalFunction;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
 import java.util.HashSet;
-import java.util.Map;
 
 public class PrettyPrintFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int OBJ = 0;
+
+    public PrettyPrintFunctionImpl() {
+        super("obj");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        ValueExpr valueExpr = args.get("obj");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        ValueExpr valueExpr = args[OBJ];
 
         StringBuilder out = new StringBuilder();
         valueExpr.prettyPrint(new HashSet<>(), out, 0);
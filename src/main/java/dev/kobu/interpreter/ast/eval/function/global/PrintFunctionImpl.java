@@ -32,13 +32,18 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinGlobalFunction;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
 import java.util.HashSet;
-import java.util.Map;
 
 public class PrintFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int OBJ = 0;
+
+    public PrintFunctionImpl() {
+        super("obj");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        ValueExpr valueExpr = args.get("obj");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        ValueExpr valueExpr = args[OBJ];
         if (valueExpr instanceof StringValueExpr) {
             context.getOutputWriter().getStdOut().println(((StringValueExpr) valueExpr).getValue());
         } else if (valueExpr instanceof StringBuilderValueExpr) {
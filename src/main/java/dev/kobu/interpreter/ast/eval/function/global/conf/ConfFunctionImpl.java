@@ -32,14 +32,21 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinGlobalFunction;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
 import java.util.Locale;
-import java.util.Map;
 
 public class ConfFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int NAME = 0;
+
+    private static final int DEFAULT = 1;
+
+    public ConfFunctionImpl() {
+        super("name", "default");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        StringValueExpr nameExpr = (StringValueExpr) args.get("name");
-        StringValueExpr defaultExpr = (StringValueExpr) args.get("default");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        StringValueExpr nameExpr = (StringValueExpr) args[NAME];
+        StringValueExpr defaultExpr = (StringValueExpr) args[DEFAULT];
 
         String var = nameExpr.getValue().replaceAll("([A-Z]+)", "_\1").toUpperCase(Locale.ROOT);
 
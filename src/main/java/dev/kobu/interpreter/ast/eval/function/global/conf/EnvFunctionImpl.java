@@ -31,14 +31,21 @@ import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinGlobalFunction;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class EnvFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int VAR = 0;
+
+    private static final int DEFAULT = 1;
+
+    public EnvFunctionImpl() {
+        super("var", "default");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        StringValueExpr varExpr = (StringValueExpr) args.get("var");
-        StringValueExpr defaultExpr = (StringValueExpr) args.get("default");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        StringValueExpr varExpr = (StringValueExpr) args[VAR];
+        StringValueExpr defaultExpr = (StringValueExpr) args[DEFAULT];
 
         String value = System.getenv(varExpr.getValue());
 
@@ -34,12 +34,11 @@ import dev.kobu.interpreter.file_system.local.LocalKobuScriptFile;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
 import java.nio.file.Path;
-import java.util.Map;
 
 public class MainScriptDirFunctionImpl extends BuiltinGlobalFunction {
 
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         var script = context.getModuleScope().getScript();
         if (script instanceof LocalKobuScriptFile) {
             return new PathValueExpr(Path.of(((LocalKobuScriptFile)script).getFile().getParentFile().getAbsolutePath()));
@@ -32,12 +32,11 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinGlobalFunction;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
 import java.nio.file.Path;
-import java.util.Map;
 
 public class ProjectRootDirFunctionImpl extends BuiltinGlobalFunction {
 
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         return new PathValueExpr(Path.of(context.getModuleScope().getProjectDir()));
     }
 
@@ -31,14 +31,21 @@ import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinGlobalFunction;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class PropertyFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int NAME = 0;
+
+    private static final int DEFAULT = 1;
+
+    public PropertyFunctionImpl() {
+        super("name", "default");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        StringValueExpr nameExpr = (StringValueExpr) args.get("name");
-        StringValueExpr defaultExpr = (StringValueExpr) args.get("default");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        StringValueExpr nameExpr = (StringValueExpr) args[NAME];
+        StringValueExpr defaultExpr = (StringValueExpr) args[DEFAULT];
 
         String value = context.getProperty(nameExpr.getValue());
 
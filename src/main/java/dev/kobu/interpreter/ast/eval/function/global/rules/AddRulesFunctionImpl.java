@@ -34,13 +34,18 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 import dev.kobu.interpreter.error.eval.InvalidCallError;
 
-import java.util.Map;
 
 public class AddRulesFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int RULES = 0;
+
+    public AddRulesFunctionImpl() {
+        super("rules");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        ArrayValueExpr rulesExpr = (ArrayValueExpr) args.get("rules");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        ArrayValueExpr rulesExpr = (ArrayValueExpr) args[RULES];
 
         if (rulesExpr == null) {
             throw new IllegalArgumentError("'rules' cannot be null", sourceCodeRef);
@@ -34,19 +34,24 @@ import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 import dev.kobu.interpreter.error.eval.InvalidCallError;
 
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
 public class FireRulesFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int RECORDS = 0;
+
+    public FireRulesFunctionImpl() {
+        super("records");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
 
         if (context.getDatabase().isRunning()) {
             throw new InvalidCallError("Rule engine is already running", sourceCodeRef);
         }
 
-        ArrayValueExpr recordsExpr = (ArrayValueExpr) args.get("records");
+        ArrayValueExpr recordsExpr = (ArrayValueExpr) args[RECORDS];
 
         if (recordsExpr == null) {
             throw new IllegalArgumentError("'records' cannot be null", sourceCodeRef);
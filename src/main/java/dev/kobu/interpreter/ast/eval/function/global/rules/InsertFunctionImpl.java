@@ -35,13 +35,18 @@ import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 import dev.kobu.interpreter.error.eval.InvalidCallError;
 
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
 public class InsertFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int VALUE = 0;
+
+    public InsertFunctionImpl() {
+        super("value");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
 
         if (!context.getDatabase().isRunning()) {
             throw new InvalidCallError("Rule engine isn't running", sourceCodeRef);
@@ -50,7 +55,7 @@ public class InsertFunctionImpl extends BuiltinGlobalFunction {
             throw new InvalidCallError("Can't change the working memory in this step", sourceCodeRef);
         }
 
-        RecordValueExpr recordExpr = (RecordValueExpr) args.get("value");
+        RecordValueExpr recordExpr = (RecordValueExpr) args[VALUE];
 
         if (recordExpr == null) {
             throw new IllegalArgumentError("'value' cannot be null", sourceCodeRef);
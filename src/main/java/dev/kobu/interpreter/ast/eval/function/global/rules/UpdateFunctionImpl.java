@@ -33,12 +33,17 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 import dev.kobu.interpreter.error.eval.InvalidCallError;
 
-import java.util.Map;
 
 public class UpdateFunctionImpl extends BuiltinGlobalFunction {
 
+    private static final int VALUE = 0;
+
+    public UpdateFunctionImpl() {
+        super("value");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
 
         if (!context.getDatabase().isRunning()) {
             throw new InvalidCallError("Rule engine isn't running", sourceCodeRef);
@@ -47,7 +52,7 @@ public class UpdateFunctionImpl extends BuiltinGlobalFunction {
             throw new InvalidCallError("Can't change the working memory in this step", sourceCodeRef);
         }
 
-        RecordValueExpr recordExpr = (RecordValueExpr) args.get("value");
+        RecordValueExpr recordExpr = (RecordValueExpr) args[VALUE];
 
         if (recordExpr == null) {
             throw new IllegalArgumentError("'value' cannot be null", sourceCodeRef);
@@ -32,14 +32,19 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
-import java.util.Map;
 
 public class PowMethodImpl extends BuiltinMethod {
 
+    private static final int EXP = 0;
+
+    public PowMethodImpl() {
+        super("exp");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         NumberValueExpr value = (NumberValueExpr) object;
-        ValueExpr exp = args.get("exp");
+        ValueExpr exp = args[EXP];
 
         if (exp == null || exp instanceof NullValueExpr) {
             throw new IllegalArgumentError("exp cannot be null", sourceCodeRef);
@@ -36,13 +36,18 @@ import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
 import java.nio.file.Path;
 import java.util.List;
-import java.util.Map;
 
 public class PathConstructorImpl extends BuiltinGlobalFunction {
 
+    private static final int SEGMENTS = 0;
+
+    public PathConstructorImpl() {
+        super("segments");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        ValueExpr segmentsExpr = args.get("segments");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        ValueExpr segmentsExpr = args[SEGMENTS];
 
         if (segmentsExpr == null || segmentsExpr instanceof NullValueExpr) {
             throw new IllegalArgumentError("'segments' cannot be null", sourceCodeRef);
@@ -33,14 +33,19 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
 import java.nio.file.Path;
-import java.util.Map;
 
 public class PathRelativizeMethodImpl extends BuiltinMethod {
 
+    private static final int OTHER = 0;
+
+    public PathRelativizeMethodImpl() {
+        super("other");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         PathValueExpr pathExpr = (PathValueExpr) object;
-        ValueExpr other = args.get("other");
+        ValueExpr other = args[OTHER];
 
         if (other == null || other instanceof NullValueExpr) {
             throw new IllegalArgumentError("'other' cannot be null", sourceCodeRef);
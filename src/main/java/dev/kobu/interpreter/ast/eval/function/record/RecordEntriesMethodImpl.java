@@ -41,7 +41,6 @@ import dev.kobu.interpreter.ast.symbol.tuple.TupleTypeFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class RecordEntriesMethodImpl extends BuiltinMethod {
 
@@ -57,7 +56,7 @@ public class RecordEntriesMethodImpl extends BuiltinMethod {
     }
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         RecordValueExpr recordExpr = (RecordValueExpr) object;
         List<ValueExpr> result = new ArrayList<>();
 
@@ -38,12 +38,11 @@ import dev.kobu.interpreter.ast.symbol.array.ArrayTypeFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class RecordGetAttributesMethodImpl extends BuiltinMethod {
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         RecordValueExpr recordValueExpr = (RecordValueExpr) object;
         RecordTypeSymbol recordTypeSymbol = (RecordTypeSymbol) recordValueExpr.getType();
 
@@ -32,14 +32,19 @@ import dev.kobu.interpreter.ast.eval.expr.value.StringValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class RecordGetMethodImpl extends BuiltinMethod {
 
+    private static final int ATTR = 0;
+
+    public RecordGetMethodImpl() {
+        super("attr");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         RecordValueExpr recordValueExpr = (RecordValueExpr) object;
-        StringValueExpr fieldName = (StringValueExpr) args.get("attr");
+        StringValueExpr fieldName = (StringValueExpr) args[ATTR];
         ValueExpr fieldValue = recordValueExpr.resolveField(fieldName.getValue());
         if (fieldValue == null || fieldValue instanceof NullValueExpr) {
             return new NullValueExpr();
@@ -32,14 +32,19 @@ import dev.kobu.interpreter.ast.eval.expr.value.StringValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class RecordHasAttributeMethodImpl extends BuiltinMethod {
 
+    private static final int ATTR = 0;
+
+    public RecordHasAttributeMethodImpl() {
+        super("attr");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         RecordValueExpr recordValueExpr = (RecordValueExpr) object;
-        StringValueExpr fieldNameExpr = (StringValueExpr) args.get("attr");
+        StringValueExpr fieldNameExpr = (StringValueExpr) args[ATTR];
         var fieldType = recordValueExpr.getType().resolveField(fieldNameExpr.getValue());
         return BooleanValueExpr.fromValue(fieldType != null);
     }
@@ -34,15 +34,22 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.ast.symbol.Type;
 import dev.kobu.interpreter.error.eval.InvalidCallError;
 
-import java.util.Map;
 
 public class RecordPutMethodImpl extends BuiltinMethod {
 
+    private static final int ATTR = 0;
+
+    private static final int VALUE = 1;
+
+    public RecordPutMethodImpl() {
+        super("attr", "value");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         RecordValueExpr recordExpr = (RecordValueExpr) object;
-        StringValueExpr attrName = (StringValueExpr) args.get("attr");
-        ValueExpr value = args.get("value");
+        StringValueExpr attrName = (StringValueExpr) args[ATTR];
+        ValueExpr value = args[VALUE];
         Type fieldType = recordExpr.getType().resolveField(attrName.getValue());
         if (fieldType == null) {
             throw new InvalidCallError("Type " + recordExpr.getType().getName() +
@@ -39,14 +39,19 @@ import dev.kobu.interpreter.ast.symbol.array.ArrayTypeFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class RecordValuesMethodImpl extends BuiltinMethod {
 
+    private static final int VALUE_TYPE = 0;
+
+    public RecordValuesMethodImpl() {
+        super("valueType");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         RecordValueExpr recordExpr = (RecordValueExpr) object;
-        RecordTypeRefValueExpr typeRefExpr = (RecordTypeRefValueExpr) args.get("valueType");
+        RecordTypeRefValueExpr typeRefExpr = (RecordTypeRefValueExpr) args[VALUE_TYPE];
 
         List<ValueExpr> result = new ArrayList<>();
         for (ValueExpr value : recordExpr.getValues()) {
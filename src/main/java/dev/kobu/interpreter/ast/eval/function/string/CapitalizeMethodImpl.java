@@ -32,14 +32,19 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.ast.utils.StringFunctions;
 
-import java.util.Map;
 
 public class CapitalizeMethodImpl extends BuiltinMethod {
 
+    private static final int LOWERCASE_TAIL = 0;
+
+    public CapitalizeMethodImpl() {
+        super("lowercaseTail");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         StringValueExpr stringExpr = (StringValueExpr) object;
-        BooleanValueExpr lowercaseTailExpr = (BooleanValueExpr) args.get("lowercaseTail");
+        BooleanValueExpr lowercaseTailExpr = (BooleanValueExpr) args[LOWERCASE_TAIL];
 
         String value = stringExpr.getValue();
         boolean lowercaseTail = lowercaseTailExpr != null && lowercaseTailExpr.getValue();
@@ -32,15 +32,20 @@ import dev.kobu.interpreter.ast.eval.expr.value.StringValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class StringCompareMethodImpl extends BuiltinMethod {
 
+    private static final int OTHER = 0;
+
+    public StringCompareMethodImpl() {
+        super("other");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         StringValueExpr thisStr = (StringValueExpr) object;
-        StringValueExpr otherStr = (StringValueExpr) args.get("other");
-        return new IntegerValueExpr(thisStr.getValue().compareTo(otherStr.getValue()));
+        StringValueExpr otherStr = (StringValueExpr) args[OTHER];
+        return IntegerValueExpr.valueOf(thisStr.getValue().compareTo(otherStr.getValue()));
     }
 
     @Override
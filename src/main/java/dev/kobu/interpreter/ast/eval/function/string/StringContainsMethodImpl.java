@@ -32,14 +32,19 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
-import java.util.Map;
 
 public class StringContainsMethodImpl extends BuiltinMethod {
 
+    private static final int STR = 0;
+
+    public StringContainsMethodImpl() {
+        super("str");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         StringValueExpr thisStr = (StringValueExpr) object;
-        StringValueExpr subStr = (StringValueExpr) args.get("str");
+        StringValueExpr subStr = (StringValueExpr) args[STR];
 
         if (subStr == null) {
             throw new IllegalArgumentError("'subStr' cannot be null", sourceCodeRef);
@@ -31,7 +31,6 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.ast.utils.StringConverter;
 
-import java.util.Map;
 
 public class StringConverterMethodImpl extends BuiltinMethod {
 
@@ -42,7 +41,7 @@ public class StringConverterMethodImpl extends BuiltinMethod {
     }
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         StringValueExpr valueExpr = (StringValueExpr) object;
         return new StringValueExpr(converter.convert(valueExpr.getValue()));
     }
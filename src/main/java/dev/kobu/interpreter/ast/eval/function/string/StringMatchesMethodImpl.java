@@ -32,14 +32,19 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
-import java.util.Map;
 
 public class StringMatchesMethodImpl extends BuiltinMethod {
 
+    private static final int REGEX = 0;
+
+    public StringMatchesMethodImpl() {
+        super("regex");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         StringValueExpr value = (StringValueExpr) object;
-        StringValueExpr regex = (StringValueExpr) args.get("regex");
+        StringValueExpr regex = (StringValueExpr) args[REGEX];
 
         if (regex == null) {
             throw new IllegalArgumentError("'regex' cannot be null", sourceCodeRef);
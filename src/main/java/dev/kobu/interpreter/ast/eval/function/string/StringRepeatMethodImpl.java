@@ -31,21 +31,26 @@ import dev.kobu.interpreter.ast.eval.expr.value.number.NumberValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class StringRepeatMethodImpl extends BuiltinMethod {
 
+    private static final int COUNT = 0;
+
+    public StringRepeatMethodImpl() {
+        super("count");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         StringValueExpr stringExpr = (StringValueExpr) object;
-        NumberValueExpr countExpr = (NumberValueExpr) args.get("count");
+        NumberValueExpr countExpr = (NumberValueExpr) args[COUNT];
 
         if (stringExpr == null || countExpr == null) {
             return new StringValueExpr("");
         }
 
         var str = stringExpr.getValue();
-        var count = countExpr.getValue().intValue();
+        var count = countExpr.intValue();
 
         if (str.isEmpty() || count <= 0) {
             return new StringValueExpr("");
@@ -31,15 +31,22 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
-import java.util.Map;
 
 public class StringReplaceMethodImpl extends BuiltinMethod {
 
+    private static final int REGEX = 0;
+
+    private static final int REPLACEMENT = 1;
+
+    public StringReplaceMethodImpl() {
+        super("regex", "replacement");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         StringValueExpr value = (StringValueExpr) object;
-        StringValueExpr regex = (StringValueExpr) args.get("regex");
-        StringValueExpr replacement = (StringValueExpr) args.get("replacement");
+        StringValueExpr regex = (StringValueExpr) args[REGEX];
+        StringValueExpr replacement = (StringValueExpr) args[REPLACEMENT];
 
         if (regex == null) {
             throw new IllegalArgumentError("'regex' cannot be null", sourceCodeRef);
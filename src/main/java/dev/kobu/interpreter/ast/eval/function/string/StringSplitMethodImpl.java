@@ -37,16 +37,23 @@ import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 public class StringSplitMethodImpl extends BuiltinMethod {
 
+    private static final int REGEX = 0;
+
+    private static final int LIMIT = 1;
+
+    public StringSplitMethodImpl() {
+        super("regex", "limit");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         StringValueExpr stringExpr = (StringValueExpr) object;
-        StringValueExpr regexExpr = (StringValueExpr) args.get("regex");
-        NumberValueExpr limitExpr = (NumberValueExpr) args.get("limit");
+        StringValueExpr regexExpr = (StringValueExpr) args[REGEX];
+        NumberValueExpr limitExpr = (NumberValueExpr) args[LIMIT];
 
         if (regexExpr == null) {
             throw new IllegalArgumentError("'regex' cannot be null", sourceCodeRef);
@@ -56,7 +63,7 @@ public class StringSplitMethodImpl extends BuiltinMethod {
         if (limitExpr == null) {
             result = Arrays.asList(stringExpr.getValue().split(regexExpr.getValue()));
         } else {
-            result = Arrays.asList(stringExpr.getValue().split(regexExpr.getValue(), limitExpr.getValue().intValue()));
+            result = Arrays.asList(stringExpr.getValue().split(regexExpr.getValue(), limitExpr.intValue()));
         }
         List<ValueExpr> resultExpr = result
                 .stream()
@@ -32,26 +32,33 @@ import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
-import java.util.Map;
 
 public class SubstringMethodImpl extends BuiltinMethod {
 
+    private static final int BEGIN_INDEX = 0;
+
+    private static final int END_INDEX = 1;
+
+    public SubstringMethodImpl() {
+        super("beginIndex", "endIndex");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         StringValueExpr stringExpr = (StringValueExpr) object;
-        NumberValueExpr beginIndex = (NumberValueExpr) args.get("beginIndex");
-        NumberValueExpr endIndex = (NumberValueExpr) args.get("endIndex");
+        NumberValueExpr beginIndex = (NumberValueExpr) args[BEGIN_INDEX];
+        NumberValueExpr endIndex = (NumberValueExpr) args[END_INDEX];
 
         if (beginIndex == null) {
             throw new IllegalArgumentError("'beginIndex' cannot be null", sourceCodeRef);
         }
 
         if (endIndex == null) {
-            return new StringValueExpr(stringExpr.getValue().substring(beginIndex.getValue().intValue()));
+            return new StringValueExpr(stringExpr.getValue().substring(beginIndex.intValue()));
         }
 
         return new StringValueExpr(stringExpr.getValue()
-                .substring(beginIndex.getValue().intValue(), endIndex.getValue().intValue()));
+                .substring(beginIndex.intValue(), endIndex.intValue()));
     }
 
     @Override
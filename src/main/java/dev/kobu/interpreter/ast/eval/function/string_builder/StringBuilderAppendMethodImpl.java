@@ -33,14 +33,19 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 
 import java.util.HashSet;
-import java.util.Map;
 
 public class StringBuilderAppendMethodImpl extends BuiltinMethod {
 
+    private static final int STR = 0;
+
+    public StringBuilderAppendMethodImpl() {
+        super("str");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         StringBuilderValueExpr stringBuilderValueExpr = (StringBuilderValueExpr) object;
-        ValueExpr strExpr = args.get("str");
+        ValueExpr strExpr = args[STR];
 
         if (strExpr == null) {
             throw new IllegalArgumentError("'str' cannot be null", sourceCodeRef);
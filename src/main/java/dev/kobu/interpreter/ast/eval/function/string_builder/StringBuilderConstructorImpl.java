@@ -32,13 +32,18 @@ import dev.kobu.interpreter.ast.eval.expr.value.StringValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinGlobalFunction;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class StringBuilderConstructorImpl extends BuiltinGlobalFunction {
 
+    private static final int STR = 0;
+
+    public StringBuilderConstructorImpl() {
+        super("str");
+    }
+
     @Override
-    protected ValueExpr run(EvalContext context, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
-        ValueExpr contentExpr = args.get("str");
+    protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+        ValueExpr contentExpr = args[STR];
 
         StringBuilder stringBuilder;
         if (contentExpr == null || contentExpr instanceof NullValueExpr) {
@@ -31,15 +31,14 @@ import dev.kobu.interpreter.ast.eval.expr.value.number.IntegerValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class StringBuilderLengthMethodImpl extends BuiltinMethod {
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         StringBuilderValueExpr stringBuilderValueExpr = (StringBuilderValueExpr) object;
         StringBuilder stringBuilder = stringBuilderValueExpr.getValue();
-        return new IntegerValueExpr(stringBuilder.length());
+        return IntegerValueExpr.valueOf(stringBuilder.length());
     }
 
     @Override
@@ -30,7 +30,6 @@ import dev.kobu.interpreter.ast.eval.expr.value.TupleValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class TupleGetMethod extends BuiltinMethod {
 
@@ -41,7 +40,7 @@ public class TupleGetMethod extends BuiltinMethod {
     }
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         TupleValueExpr tupleExpr = (TupleValueExpr) object;
         return tupleExpr.getValueExprList().get(index);
     }
@@ -30,20 +30,22 @@ import dev.kobu.interpreter.ast.eval.expr.value.TupleValueExpr;
 import dev.kobu.interpreter.ast.eval.function.BuiltinMethod;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
-import java.util.Map;
 
 public class TupleSetMethod extends BuiltinMethod {
 
+    private static final int VALUE = 0;
+
     private final int index;
 
     public TupleSetMethod(int index) {
+        super("value");
         this.index = index;
     }
 
     @Override
-    protected ValueExpr run(EvalContext context, ValueExpr object, Map<String, ValueExpr> args, SourceCodeRef sourceCodeRef) {
+    protected ValueExpr run(EvalContext context, ValueExpr object, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
         TupleValueExpr tupleExpr = (TupleValueExpr) object;
-        ValueExpr valueExpr = args.get("value");
+        ValueExpr valueExpr = args[VALUE];
         tupleExpr.getValueExprList().set(index, valueExpr);
         return null;
     }
@@ -60,6 +60,6 @@ public class BreakStatement implements Statement {
 
     @Override
     public void evalStat(EvalContext context) {
-        context.getCurrentBranch().setInterrupt(InterruptTypeEnum.BREAK);
+        context.setInterrupt(InterruptTypeEnum.BREAK);
     }
 }
@@ -87,7 +87,7 @@ public class CatchBlockStatement implements Statement {
         context.pushNewScope();
         VariableSymbol varSymbol = new VariableSymbol(moduleScope, varSourceCodeRef, varName, errorType);
         context.getCurrentScope().define(context.getAnalyzerContext(), varSymbol);
-        context.evalBlock(block);
+        context.analyzeBlock(block);
         context.popScope();
 
         if (nextCatch != null) {
@@ -104,6 +104,7 @@ public class CatchBlockStatement implements Statement {
                 try {
                     VariableSymbol varSymbol = new VariableSymbol(moduleScope, varSourceCodeRef, varName, errorType);
                     context.getCurrentScope().define(context.getAnalyzerContext(), varSymbol);
+                    context.getCurrentScope().setValue(varName, errorValue.getValue());
                     context.evalBlock(block);
                 } finally {
                     context.popScope();
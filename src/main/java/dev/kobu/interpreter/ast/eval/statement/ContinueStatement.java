@@ -60,6 +60,6 @@ public class ContinueStatement implements Statement {
 
     @Override
     public void evalStat(EvalContext context) {
-        context.getCurrentBranch().setInterrupt(InterruptTypeEnum.CONTINUE);
+        context.setInterrupt(InterruptTypeEnum.CONTINUE);
     }
 }
@@ -108,7 +108,6 @@ public class EnhancedForStatement implements Statement {
     @Override
     public void evalStat(EvalContext context) {
         context.pushNewScope();
-        context.pushNewBranch();
 
         try {
             context.getCurrentScope().define(context.getAnalyzerContext(), itElemVar);
@@ -121,15 +120,17 @@ public class EnhancedForStatement implements Statement {
                 context.getCurrentScope().setValue(itElemVar.getName(), expr);
                 var interrupt = context.evalBlock(block);
                 if (interrupt != null) {
+                    context.setInterrupt(null);
                     if (interrupt == InterruptTypeEnum.BREAK) {
                         break;
                     }
-                    context.getCurrentBranch().setInterrupt(null);
+                }
+                if (context.terminated()) {
+                    break;
                 }
             }
 
         } finally {
-            context.popBranch();
             context.popScope();
         }
     }
@@ -104,7 +104,6 @@ public class ForStatement implements Statement {
     @Override
     public void evalStat(EvalContext context) {
         context.pushNewScope();
-        context.pushNewBranch();
 
         try {
             if (varDeclList != null) {
@@ -130,10 +129,13 @@ public class ForStatement implements Statement {
                 if (cond) {
                     var interrupt = context.evalBlock(block);
                     if (interrupt != null) {
+                        context.setInterrupt(null);
                         if (interrupt == InterruptTypeEnum.BREAK) {
                             break;
                         }
-                        context.getCurrentBranch().setInterrupt(null);
+                    }
+                    if (context.terminated()) {
+                        break;
                     }
 
                     for (Statement stepStat : stepStatList) {
@@ -142,7 +144,6 @@ public class ForStatement implements Statement {
                 }
             }
         } finally {
-            context.popBranch();
             context.popScope();
         }
     }
@@ -28,8 +28,10 @@ import dev.kobu.interpreter.ast.eval.context.EvalContext;
 import dev.kobu.interpreter.ast.eval.Expr;
 import dev.kobu.interpreter.ast.eval.HasTargetType;
 import dev.kobu.interpreter.ast.eval.Statement;
+import dev.kobu.interpreter.ast.eval.expr.FunctionCallExpr;
 import dev.kobu.interpreter.ast.symbol.Type;
 import dev.kobu.interpreter.ast.symbol.UnknownType;
+import dev.kobu.interpreter.ast.symbol.function.FunctionSymbol;
 import dev.kobu.interpreter.error.analyzer.FunctionMissingReturnValueError;
 import dev.kobu.interpreter.error.analyzer.InvalidReturnTypeError;
 import dev.kobu.interpreter.error.analyzer.ReturnStatInVoidFunctionError;
@@ -45,6 +47,8 @@ public class ReturnStatement implements Statement {
 
     private final boolean implicitReturn;
 
+    private FunctionCallExpr tailCall;
+
     public ReturnStatement(SourceCodeRef sourceCodeRef, Expr expr, boolean implicitReturn) {
         this.sourceCodeRef = sourceCodeRef;
         this.expr = expr;
@@ -57,6 +61,7 @@ public class ReturnStatement implements Statement {
 
     @Override
     public void analyze(EvalContext context) {
+        tailCall = null;
         context.getCurrentBranch().setHasReturnStatement(true);
         var function = context.getFunction();
         if (!function.inferReturnType()) {
@@ -87,6 +92,11 @@ public class ReturnStatement implements Statement {
             return;
         }
 
+        if (expr instanceof FunctionCallExpr && function instanceof FunctionSymbol && !context.insideTryBlock()
+                && ((FunctionCallExpr) expr).getTailCallTarget() != null) {
+            tailCall = (FunctionCallExpr) expr;
+        }
+
         if (function.inferReturnType()) {
             if (context.voidReturnType()) {
                 context.addAnalyzerError(new ReturnStatInVoidFunctionError(sourceCodeRef, function));
@@ -103,10 +113,12 @@ public class ReturnStatement implements Statement {
 
     @Override
     public void evalStat(EvalContext context) {
-        context.getCurrentBranch().setHasReturnStatement(true);
-        if (expr != null) {
+        if (tailCall != null) {
+            context.setTailCall(tailCall.getTailCallTarget(), tailCall.evalArgs(context));
+        } else if (expr != null) {
             context.setReturnValue(expr.evalExpr(context));
         }
+        context.setTerminated();
     }
 
     @Override
@@ -64,7 +64,7 @@ public class ThrowStatement implements Statement {
 
     @Override
     public void evalStat(EvalContext context) {
-        context.getCurrentBranch().setHasThrowStatement(true);
+        context.setTerminated();
         context.setErrorValue(new ErrorValue(sourceCodeRef, expr.evalExpr(context)));
     }
 
@@ -65,7 +65,9 @@ public class TryCatchStatement implements Statement {
 
     @Override
     public void analyze(EvalContext context) {
+        context.enterTryBlock();
         context.analyzeBlock(block);
+        context.exitTryBlock();
 
         if (catchBlock != null) {
             catchBlock.analyze(context);
@@ -94,7 +94,6 @@ public class WhileStatement implements Statement {
     @Override
     public void evalStat(EvalContext context) {
         context.pushNewScope();
-        context.pushNewBranch();
 
         try {
             ValueExpr condValue = condExpr.evalExpr(context);
@@ -111,16 +110,18 @@ public class WhileStatement implements Statement {
             while (cond) {
                 var interrupt = context.evalBlock(block);
                 if (interrupt != null) {
+                    context.setInterrupt(null);
                     if (interrupt == InterruptTypeEnum.BREAK) {
                         break;
                     }
-                    context.getCurrentBranch().setInterrupt(null);
+                }
+                if (context.terminated()) {
+                    break;
                 }
 
                 cond = ((BooleanValueExpr) condExpr.evalExpr(context)).getValue();
             }
         } finally {
-            context.popBranch();
             context.popScope();
         }
     }
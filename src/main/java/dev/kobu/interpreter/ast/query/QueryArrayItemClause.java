@@ -36,4 +36,6 @@ public interface QueryArrayItemClause extends Evaluable, HasTypeScope {
 
     List<ValueExpr> eval(EvalContext context, ArrayValueExpr arrayValue);
 
+    void setValueScope(ValueExpr valueScope);
+
 }
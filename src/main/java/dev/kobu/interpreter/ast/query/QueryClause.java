@@ -26,6 +26,7 @@ package dev.kobu.interpreter.ast.query;
 
 import dev.kobu.interpreter.ast.eval.Evaluable;
 import dev.kobu.interpreter.ast.eval.HasTypeScope;
+import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.ast.symbol.Type;
 
@@ -43,6 +44,10 @@ public interface QueryClause extends Matcher, Evaluable, HasTypeScope {
 
     void setNext(QueryClause next);
 
+    void setValueScope(ValueExpr valueScope);
+
     void setExtractorMode();
 
+    String getKey();
+
 }
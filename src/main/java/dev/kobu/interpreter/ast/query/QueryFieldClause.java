@@ -194,6 +194,20 @@ public class QueryFieldClause implements QueryClause, HasElementRef, AutoComplet
         return field;
     }
 
+    @Override
+    public String getKey() {
+        if (extractorMode || valueScope != null) {
+            return null;
+        }
+        if (arrayItemClause == null) {
+            return "field|" + field + "|" + bind;
+        }
+        if (arrayItemClause instanceof QueryArrayAllClause) {
+            return "field[*]|" + field + "|" + bind;
+        }
+        return null;
+    }
+
     @Override
     public String getBind() {
         return bind;
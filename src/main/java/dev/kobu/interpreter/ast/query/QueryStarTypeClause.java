@@ -160,6 +160,14 @@ public class QueryStarTypeClause implements QueryClause {
         return bind;
     }
 
+    @Override
+    public String getKey() {
+        if (extractorMode || valueScope != null) {
+            return null;
+        }
+        return "*|" + type.getName() + "|" + includeSubtypes + "|" + bind;
+    }
+
     @Override
     public void setBind(String bind) {
         this.bind = bind;
@@ -57,11 +57,11 @@ public class BuiltinFunctionSymbol extends Symbol implements NamedFunction {
         super(null,null, name, false);
         this.enclosingType = enclosingType;
         this.functionImpl = functionImpl;
-        this.functionImpl.setFuncDef(this);
         this.typeParameters = typeParameters;
         this.typeArgsMap = typeArgsMap;
         this.returnType = returnType;
         this.parameters.addAll(Arrays.asList(args));
+        this.functionImpl.setFuncDef(this);
         buildType();
     }
 
@@ -56,6 +56,8 @@ public class ModuleScope implements Scope {
 
     private final List<ProjectProperty> properties;
 
+    private final Map<String, String> propertyMap = new HashMap<>();
+
     private final Map<NativeFunctionId, NativeFunction> nativeFunctions;
 
     private final String projectDir;
@@ -94,6 +96,11 @@ public class ModuleScope implements Scope {
         this.moduleId = moduleId;
         this.script = script;
         this.properties = properties;
+        if (properties != null) {
+            for (ProjectProperty property : properties) {
+                propertyMap.put(property.getName(), property.getValue());
+            }
+        }
         this.projectDir = projectDir;
         this.nativeFunctions = nativeFunctions;
         this.moduleIndex = moduleIndex;
@@ -367,6 +374,10 @@ public class ModuleScope implements Scope {
         return properties;
     }
 
+    public String getProperty(String name) {
+        return propertyMap.get(name);
+    }
+
     public String getProjectDir() {
         return projectDir;
     }
@@ -90,6 +90,10 @@ public class RecordTypeSymbol extends Symbol implements Type, HasExpr {
         return superType.getSourceCodeRef();
     }
 
+    public boolean isParameterized() {
+        return originalType != null;
+    }
+
     public List<TypeParameter> getTypeParameters() {
         return typeParameters;
     }
@@ -58,6 +58,8 @@ public class FunctionSymbol extends Symbol implements NamedFunction, UserDefined
 
     private List<TypeParameter> typeParameters;
 
+    private Symbol[] parameterSymbols;
+
     public FunctionSymbol(SourceCodeRef sourceCodeRef, SourceCodeRef closeBlockSourceRef, ModuleScope moduleScope,
                           String name, String docText, boolean privateAccess) {
         super(moduleScope, sourceCodeRef, name, privateAccess);
@@ -162,6 +164,7 @@ public class FunctionSymbol extends Symbol implements NamedFunction, UserDefined
         }
 
         Map<String, FunctionParameter> paramsMap = new HashMap<>();
+        List<Symbol> symbols = new ArrayList<>();
         FunctionParameter lastOptionalParam = null;
         for (FunctionParameter parameter : parameters) {
             FunctionParameter currentParam = paramsMap.get(parameter.getName());
@@ -182,7 +185,9 @@ public class FunctionSymbol extends Symbol implements NamedFunction, UserDefined
             VariableSymbol variableSymbol = new VariableSymbol(moduleScope, parameter.getSourceCodeRef(), parameter.getName(),
                     parameter.getType());
             scope.define(analyzerContext, variableSymbol);
+            symbols.add(variableSymbol);
         }
+        parameterSymbols = symbols.toArray(new Symbol[0]);
         var branch = context.pushNewBranch();
         context.analyzeBlock(block);
 
@@ -195,24 +200,21 @@ public class FunctionSymbol extends Symbol implements NamedFunction, UserDefined
 
     @Override
     public ValueExpr eval(AnalyzerContext analyzerContext, EvalContextProvider evalContextProvider, List<ValueExpr> args) {
-        var context = evalContextProvider.newEvalContext(analyzerContext, moduleScope, this);
-        var scope = context.getCurrentScope();
-        for (int i = 0; i < parameters.size(); i++) {
-            FunctionParameter parameter = parameters.get(i);
-            ValueExpr arg = i < args.size() ? args.get(i) : null;
-
-            VariableSymbol variableSymbol = new VariableSymbol(moduleScope, parameter.getSourceCodeRef(), parameter.getName(),
-                    parameter.getType());
-            scope.define(analyzerContext, variableSymbol);
-            if (arg != null) {
-                scope.setValue(parameter.getName(), arg);
+        FunctionSymbol function = this;
+        List<ValueExpr> callArgs = args;
+        while (true) {
+            var context = evalContextProvider.newEvalContext(analyzerContext, function.moduleScope, function);
+            context.getCurrentScope().bindArguments(function.parameterSymbols, callArgs);
+            context.evalBlock(function.block);
+            if (context.getErrorValue() != null) {
+                throw new UserDefinedError(context.getErrorValue());
             }
+            if (context.getTailCallFunction() == null) {
+                return context.getReturnValue();
+            }
+            function = context.getTailCallFunction();
+            callArgs = context.getTailCallArgs();
         }
-        context.evalBlock(block);
-        if (context.getErrorValue() != null) {
-            throw new UserDefinedError(context.getErrorValue());
-        }
-        return context.getReturnValue();
     }
 
     @Override
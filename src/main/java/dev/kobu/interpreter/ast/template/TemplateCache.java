@@ -0,0 +1,401 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.interpreter.ast.template;
+
+import dev.kobu.interpreter.ast.eval.LocalScope;
+import dev.kobu.interpreter.ast.eval.ValueExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.*;
+import dev.kobu.interpreter.ast.symbol.Scope;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent cache of rendered templates. Entries are keyed by the loaded module sources,
+ * the rule name and the contents of the values bound to the rule match, so templates must
+ * only depend on their bindings for cached output to stay valid. Entries are grouped by
+ * script and rule; {@link #prune()} only removes the entries of the rules the run rendered,
+ * so other scripts and commands sharing the project keep theirs.
+ */
+public class TemplateCache {
+
+    public static final String CACHE_DIR = ".kobu/template-cache";
+
+    private final Path dir;
+
+    private final String sourceFingerprint;
+
+    private final Map<String, Path> ruleDirs = new ConcurrentHashMap<>();
+
+    private final Map<Path, Set<String>> usedKeys = new ConcurrentHashMap<>();
+
+    public TemplateCache(Path dir, String scope, String sourceFingerprint) {
+        this.dir = dir.resolve(hash(scope));
+        this.sourceFingerprint = sourceFingerprint;
+    }
+
+    public TemplateExecutor cached(String ruleName, LocalScope frame, TemplateExecutor executor) {
+        return new CachedTemplateExecutor(ruleName, frame, executor);
+    }
+
+    public String key(String ruleName, LocalScope frame) {
+        Digest digest = new Digest();
+        digest.update(sourceFingerprint);
+        digest.update(ruleName);
+        for (Scope scope = frame; scope instanceof LocalScope; scope = scope.getEnclosingScope()) {
+            LocalScope localScope = (LocalScope) scope;
+            for (String name : localScope.getKeys()) {
+                digest.update(name);
+                digest.update(localScope.getValue(name));
+            }
+        }
+        return digest.toHex();
+    }
+
+    public String get(String ruleName, String key) {
+        Path file = entryFile(ruleName, key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // unreadable entries are rendered again
+            return null;
+        }
+    }
+
+    public void put(String ruleName, String key, String value) {
+        Path file = entryFile(ruleName, key);
+        Path tmpFile = null;
+        try {
+            tmpFile = createTempFile(file);
+            Files.writeString(tmpFile, value, StandardCharsets.UTF_8);
+            moveEntry(tmpFile, file);
+        } catch (IOException e) {
+            // the cache is best effort, the rendered value is still used
+        } finally {
+            deleteQuietly(tmpFile);
+        }
+    }
+
+    /**
+     * Deletes the entries of the rules rendered since this cache was created that were not read or
+     * written, such as the ones keyed by older sources. Entries of other scripts and of rules this
+     * run did not render are kept. Must only be called once the run is over, otherwise entries of
+     * templates not rendered yet are lost.
+     */
+    public void prune() {
+        usedKeys.forEach((ruleDir, keys) -> {
+            if (!Files.isDirectory(ruleDir)) {
+                return;
+            }
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(ruleDir)) {
+                for (Path entry : entries) {
+                    if (!keys.contains(entry.getFileName().toString())) {
+                        deleteQuietly(entry);
+                    }
+                }
+            } catch (IOException e) {
+                // stale entries are pruned on the next run
+            }
+        });
+    }
+
+    private Path entryFile(String ruleName, String key) {
+        Path ruleDir = ruleDirs.computeIfAbsent(ruleName, name -> dir.resolve(hash(name)));
+        usedKeys.computeIfAbsent(ruleDir, k -> ConcurrentHashMap.newKeySet()).add(key);
+        return ruleDir.resolve(key);
+    }
+
+    private Path createTempFile(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+    }
+
+    private void moveEntry(Path tmpFile, Path file) throws IOException {
+        Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String hash(String str) {
+        Digest digest = new Digest();
+        digest.update(str);
+        return digest.toHex();
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // nothing to do
+        }
+    }
+
+    private class CachedTemplateExecutor implements TemplateExecutor {
+
+        private final String ruleName;
+
+        private final LocalScope frame;
+
+        private final TemplateExecutor executor;
+
+        private volatile String key;
+
+        CachedTemplateExecutor(String ruleName, LocalScope frame, TemplateExecutor executor) {
+            this.ruleName = ruleName;
+            this.frame = frame;
+            this.executor = executor;
+        }
+
+        String getKey() {
+            String result = key;
+            if (result == null) {
+                result = key(ruleName, frame);
+                // nested templates keep their entries even when the parent is a hit
+                entryFile(ruleName, result);
+                key = result;
+            }
+            return result;
+        }
+
+        @Override
+        public String execute() {
+            String key = getKey();
+            String value = get(ruleName, key);
+            if (value == null) {
+                value = executor.execute();
+                put(ruleName, key, value);
+            }
+            return value;
+        }
+
+        @Override
+        public void execute(Appendable out) throws IOException {
+            String key = getKey();
+            String value = get(ruleName, key);
+            if (value != null) {
+                out.append(value);
+                return;
+            }
+
+            // stream the miss to out and to a new entry, dropping the entry if it cannot be written
+            Path file = entryFile(ruleName, key);
+            Path tmpFile = null;
+            EntryAppendable entryOut;
+            try {
+                tmpFile = createTempFile(file);
+                entryOut = new EntryAppendable(out, Files.newBufferedWriter(tmpFile, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                deleteQuietly(tmpFile);
+                executor.execute(out);
+                return;
+            }
+            try {
+                executor.execute(entryOut);
+                if (entryOut.close()) {
+                    try {
+                        moveEntry(tmpFile, file);
+                    } catch (IOException e) {
+                        // the cache is best effort, the template was already written to out
+                    }
+                }
+            } finally {
+                entryOut.close();
+                deleteQuietly(tmpFile);
+            }
+        }
+
+    }
+
+    private static class EntryAppendable implements Appendable {
+
+        private final Appendable out;
+
+        private Writer entry;
+
+        private boolean failed;
+
+        EntryAppendable(Appendable out, Writer entry) {
+            this.out = out;
+            this.entry = entry;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            out.append(csq);
+            if (entry != null) {
+                try {
+                    entry.append(csq);
+                } catch (IOException e) {
+                    fail();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            return append(csq.subSequence(start, end));
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            out.append(c);
+            if (entry != null) {
+                try {
+                    entry.append(c);
+                } catch (IOException e) {
+                    fail();
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Closes the entry and returns true if it was completely written.
+         */
+        boolean close() {
+            if (entry != null) {
+                try {
+                    entry.close();
+                } catch (IOException e) {
+                    failed = true;
+                }
+                entry = null;
+                return !failed;
+            }
+            return false;
+        }
+
+        private void fail() {
+            close();
+            failed = true;
+        }
+
+    }
+
+    private static class Digest {
+
+        private final MessageDigest md;
+
+        private final Map<Integer, Integer> visitedRecords = new HashMap<>();
+
+        Digest() {
+            try {
+                md = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void update(String str) {
+            if (str == null) {
+                update(-1);
+                return;
+            }
+            byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            update(bytes.length);
+            md.update(bytes);
+        }
+
+        void update(int value) {
+            md.update((byte) (value >>> 24));
+            md.update((byte) (value >>> 16));
+            md.update((byte) (value >>> 8));
+            md.update((byte) value);
+        }
+
+        void update(ValueExpr value) {
+            if (value == null || value instanceof NullValueExpr) {
+                md.update((byte) 'N');
+            } else if (value instanceof RecordValueExpr) {
+                RecordValueExpr record = (RecordValueExpr) value;
+                Integer visited = visitedRecords.get(record.getId());
+                if (visited != null) {
+                    // record ids change between runs, the visit order doesn't
+                    md.update((byte) 'C');
+                    update(visited);
+                    return;
+                }
+                visitedRecords.put(record.getId(), visitedRecords.size());
+                md.update((byte) 'R');
+                update(record.getType().getName());
+                for (String field : record.getFields()) {
+                    update(field);
+                    update(record.resolveField(field));
+                }
+            } else if (value instanceof ArrayValueExpr) {
+                md.update((byte) 'A');
+                var items = ((ArrayValueExpr) value).getValue();
+                update(items.size());
+                for (ValueExpr item : items) {
+                    update(item);
+                }
+            } else if (value instanceof TupleValueExpr) {
+                md.update((byte) 'T');
+                var items = ((TupleValueExpr) value).getValueExprList();
+                update(items.size());
+                for (ValueExpr item : items) {
+                    update(item);
+                }
+            } else if (value instanceof TemplateValueExpr) {
+                TemplateValueExpr template = (TemplateValueExpr) value;
+                if (template.getTemplateExecutor() instanceof CachedTemplateExecutor) {
+                    // a nested template is identified by its own key, so it is not rendered here
+                    md.update((byte) 'K');
+                    update(((CachedTemplateExecutor) template.getTemplateExecutor()).getKey());
+                } else {
+                    md.update((byte) 'P');
+                    update(template.getValue());
+                }
+            } else {
+                update(value.getClass().getSimpleName());
+                update(value.getStringValue(new HashSet<>()));
+            }
+        }
+
+        String toHex() {
+            return String.format("%064x", new BigInteger(1, md.digest()));
+        }
+
+    }
+
+}
@@ -29,10 +29,12 @@ import dev.kobu.interpreter.ast.eval.Expr;
 import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.eval.expr.value.NullValueExpr;
 import dev.kobu.interpreter.ast.eval.expr.value.StringValueExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.TemplateValueExpr;
 import dev.kobu.interpreter.ast.symbol.Type;
 import dev.kobu.interpreter.ast.utils.TemplateIndentation;
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Map;
 
@@ -63,30 +65,86 @@ public class TemplateContentStatement extends TemplateStatement {
     }
 
     @Override
-    public void analyze(EvalContext context) {
-        if (getNext() != null) {
-            getNext().analyze(context);
-        }
-
-        analyzeTargetType(context);
+    protected void analyzeFragment(EvalContext context) {
         expr.analyze(context);
-
     }
 
     @Override
-    public void evalTemplate(StringBuilder result, EvalContext context, int insertionIndex) {
-
+    protected int render(TemplateWriter out, EvalContext context, int insertionIndex) throws IOException {
         ValueExpr value = expr.evalExpr(context);
-        String content = "";
-        if (value instanceof StringValueExpr) {
-            content = TemplateIndentation.indent(((StringValueExpr) value).getValue(), insertionIndex, false);
+        IndentedAppendable content = new IndentedAppendable(out, insertionIndex);
+        if (value instanceof TemplateValueExpr) {
+            ((TemplateValueExpr) value).writeTo(content);
+        } else if (value instanceof StringValueExpr) {
+            content.append(((StringValueExpr) value).getValue());
         } else if (!(value instanceof NullValueExpr)) {
-            content = TemplateIndentation.indent(value.getStringValue(new HashSet<>()), insertionIndex, false);
+            content.append(value.getStringValue(new HashSet<>()));
+        }
+        return content.getInsertionIndex(shiftInsertionPoint);
+    }
+
+    /**
+     * Writes the content to the template output, indenting every new line by the margin, and
+     * keeps the end of the indented text to compute the next insertion index from.
+     */
+    private static class IndentedAppendable implements Appendable {
+
+        private static final int MIN_TAIL_LENGTH = 1024;
+
+        private final TemplateWriter out;
+
+        private final String margin;
+
+        private final StringBuilder tail = new StringBuilder();
+
+        private int compactLength = MIN_TAIL_LENGTH;
+
+        IndentedAppendable(TemplateWriter out, int margin) {
+            this.out = out;
+            this.margin = " ".repeat(margin);
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            if (margin.isEmpty()) {
+                write(csq.subSequence(start, end));
+                return this;
+            }
+            int from = start;
+            for (int i = start; i < end; i++) {
+                if (csq.charAt(i) == '\n') {
+                    write(csq.subSequence(from, i + 1));
+                    write(margin);
+                    from = i + 1;
+                }
+            }
+            if (from < end) {
+                write(csq.subSequence(from, end));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            return append(String.valueOf(c));
+        }
+
+        int getInsertionIndex(boolean fromInit) {
+            return TemplateIndentation.getInsertionIndex(tail, fromInit);
         }
 
-        result.append(content);
-        if (getNext() != null) {
-            getNext().evalTemplate(result, context, TemplateIndentation.getInsertionIndex(content, shiftInsertionPoint));
+        private void write(CharSequence str) throws IOException {
+            out.append(str);
+            tail.append(str);
+            if (tail.length() > compactLength) {
+                tail.delete(0, TemplateIndentation.getInsertionTailStart(tail));
+                compactLength = Math.max(MIN_TAIL_LENGTH, tail.length() * 2);
+            }
         }
 
     }
@@ -1,7 +1,13 @@
 package dev.kobu.interpreter.ast.template;
 
+import java.io.IOException;
+
 public interface TemplateExecutor {
 
     String execute();
 
+    default void execute(Appendable out) throws IOException {
+        out.append(execute());
+    }
+
 }
@@ -25,18 +25,31 @@ SOFTWARE.
 package dev.kobu.interpreter.ast.template;
 
 import dev.kobu.database.index.Match;
+import dev.kobu.interpreter.ast.AnalyzerContext;
+import dev.kobu.interpreter.ast.eval.ClosureScope;
+import dev.kobu.interpreter.ast.eval.LocalScope;
 import dev.kobu.interpreter.ast.eval.context.EvalContext;
 import dev.kobu.interpreter.ast.eval.Statement;
+import dev.kobu.interpreter.ast.eval.context.EvalContextProvider;
 import dev.kobu.interpreter.ast.eval.expr.value.RecordValueExpr;
 import dev.kobu.interpreter.ast.eval.expr.value.TemplateValueExpr;
 import dev.kobu.interpreter.ast.symbol.*;
 import dev.kobu.interpreter.error.analyzer.InvalidTypeError;
+import dev.kobu.interpreter.error.eval.InternalInterpreterError;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 public abstract class TemplateStatement implements Statement {
 
     private TemplateStatement next;
 
-    private boolean root;
+    private TemplateStatement[] instructions;
+
+    private List<Symbol> freeVariables = new ArrayList<>();
+
+    private boolean trimmed;
 
     private Type targetType;
 
@@ -66,10 +79,50 @@ public abstract class TemplateStatement implements Statement {
         this.targetTypeSourceCodeRef = targetTypeSourceCodeRef;
     }
 
-    public abstract void evalTemplate(StringBuilder result, EvalContext context, int insertionIndex);
+    /**
+     * Appends this fragment to the output and returns the insertion index for the next fragment.
+     */
+    protected abstract int render(TemplateWriter out, EvalContext context, int insertionIndex) throws IOException;
+
+    protected abstract void analyzeFragment(EvalContext context);
 
-    public boolean isRoot() {
-        return root;
+    @Override
+    public void analyze(EvalContext context) {
+        List<TemplateStatement> fragments = new ArrayList<>();
+        for (TemplateStatement fragment = this; fragment != null; fragment = fragment.next) {
+            fragments.add(fragment);
+        }
+        instructions = fragments.toArray(new TemplateStatement[0]);
+        trimmed = this instanceof TemplateStaticContentStatement;
+
+        // resolve bindings through a closure scope to learn which ones the template reads
+        var closureScope = new ClosureScope(context.getModuleScope(), context.getCurrentScope());
+        var templateContext = context.getProvider().newEvalContext(context.getAnalyzerContext(),
+                context.getModuleScope(), closureScope);
+        for (int i = instructions.length - 1; i >= 0; i--) {
+            instructions[i].analyzeFragment(templateContext);
+        }
+        freeVariables = closureScope.getFreeVariables();
+        analyzeTargetType(context);
+    }
+
+    public String render(EvalContext context) {
+        StringBuilder out = new StringBuilder();
+        try {
+            render(out, context);
+        } catch (IOException e) {
+            throw new InternalInterpreterError(e, getSourceCodeRef());
+        }
+        return out.toString();
+    }
+
+    public void render(Appendable sink, EvalContext context) throws IOException {
+        TemplateWriter out = new TemplateWriter(sink, trimmed);
+        int insertionIndex = 0;
+        for (TemplateStatement instruction : instructions) {
+            insertionIndex = instruction.render(out, context, insertionIndex);
+        }
+        out.finish();
     }
 
     protected void analyzeTargetType(EvalContext context) {
@@ -84,14 +137,34 @@ public abstract class TemplateStatement implements Statement {
     @Override
     public void evalStat(EvalContext context) {
 
-        TemplateExecutor executor = () -> {
-            this.root = true;
-            StringBuilder result = new StringBuilder();
-            evalTemplate(result, context, 0);
-            return result.toString();
+        // render from a copy of the bindings the template reads, so it doesn't pin the rule context
+        LocalScope frame = context.getCurrentScope().detach(freeVariables);
+        EvalContextProvider provider = context.getProvider();
+        AnalyzerContext analyzerContext = context.getAnalyzerContext();
+        ModuleScope moduleScope = context.getModuleScope();
+
+        TemplateExecutor executor = new TemplateExecutor() {
+            @Override
+            public String execute() {
+                return render(newRenderContext());
+            }
+
+            @Override
+            public void execute(Appendable out) throws IOException {
+                render(out, newRenderContext());
+            }
+
+            private EvalContext newRenderContext() {
+                return provider.newEvalContext(analyzerContext, moduleScope, frame);
+            }
         };
 
         Match match = context.getRuleContext().getMatch();
+        TemplateCache templateCache = context.getDatabase().getTemplateCache();
+        if (templateCache != null) {
+            executor = templateCache.cached(context.getRuleContext().getRuleSymbol().getFullName(), frame, executor);
+        }
+
         RecordValueExpr rootRecord = match.getRootRecord();
         TemplateValueExpr templateValue = new TemplateValueExpr(context.getDatabase().generateRecordId(),
                 executor, rootRecord, rootRecord.getId());
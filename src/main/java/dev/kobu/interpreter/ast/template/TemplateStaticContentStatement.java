@@ -29,6 +29,7 @@ import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 import dev.kobu.interpreter.ast.symbol.Type;
 import dev.kobu.interpreter.ast.utils.TemplateIndentation;
 
+import java.io.IOException;
 import java.util.Map;
 
 public class TemplateStaticContentStatement extends TemplateStatement {
@@ -37,9 +38,12 @@ public class TemplateStaticContentStatement extends TemplateStatement {
 
     private final String content;
 
+    private final int nextInsertionIndex;
+
     public TemplateStaticContentStatement(SourceCodeRef sourceCodeRef, String content) {
         this.sourceCodeRef = sourceCodeRef;
         this.content = content;
+        this.nextInsertionIndex = TemplateIndentation.getInsertionIndex(content, false);
     }
 
     @Override
@@ -53,28 +57,14 @@ public class TemplateStaticContentStatement extends TemplateStatement {
     }
 
     @Override
-    public void analyze(EvalContext context) {
-        if (getNext() != null) {
-            getNext().analyze(context);
-        }
+    protected void analyzeFragment(EvalContext context) {
 
-        analyzeTargetType(context);
     }
 
     @Override
-    public void evalTemplate(StringBuilder result, EvalContext context, int insertionIndex) {
-        if (isRoot()) {
-            StringBuilder str = new StringBuilder(content);
-            if (getNext() != null) {
-                getNext().evalTemplate(str, context, TemplateIndentation.getInsertionIndex(content, false));
-            }
-            result.append(TemplateIndentation.indent(str.toString(), insertionIndex, true));
-        } else {
-            result.append(content);
-            if (getNext() != null) {
-                getNext().evalTemplate(result, context, TemplateIndentation.getInsertionIndex(content, false));
-            }
-        }
+    protected int render(TemplateWriter out, EvalContext context, int insertionIndex) throws IOException {
+        out.append(content);
+        return nextInsertionIndex;
     }
 
 }
@@ -0,0 +1,108 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.interpreter.ast.template;
+
+import dev.kobu.interpreter.ast.utils.TemplateIndentation;
+
+import java.io.IOException;
+
+/**
+ * Streams rendered fragments to a sink. Trimmed output normalizes CRLF line breaks and
+ * drops the leading line break on the fly, holding back the last few characters until
+ * {@link #finish()} decides which trailing line breaks to drop.
+ */
+public class TemplateWriter {
+
+    private static final int HOLD_BACK = 3;
+
+    private final Appendable sink;
+
+    private final boolean trim;
+
+    private final StringBuilder pending = new StringBuilder();
+
+    private boolean started;
+
+    private boolean pendingCr;
+
+    public TemplateWriter(Appendable sink, boolean trim) {
+        this.sink = sink;
+        this.trim = trim;
+    }
+
+    public void append(CharSequence str) throws IOException {
+        if (!trim) {
+            sink.append(str);
+            return;
+        }
+
+        int length = str.length();
+        for (int i = 0; i < length; i++) {
+            char ch = str.charAt(i);
+            if (pendingCr) {
+                pendingCr = false;
+                if (ch == '\n') {
+                    push(ch);
+                    continue;
+                }
+                push('\r');
+            }
+            if (ch == '\r') {
+                pendingCr = true;
+            } else {
+                push(ch);
+            }
+        }
+
+        int flush = pending.length() - HOLD_BACK;
+        if (flush > 0) {
+            sink.append(pending, 0, flush);
+            pending.delete(0, flush);
+        }
+    }
+
+    public void finish() throws IOException {
+        if (!trim) {
+            return;
+        }
+        if (pendingCr) {
+            pendingCr = false;
+            push('\r');
+        }
+        sink.append(TemplateIndentation.trimEnd(pending));
+        pending.setLength(0);
+    }
+
+    private void push(char ch) {
+        if (!started) {
+            started = true;
+            if (ch == '\n') {
+                return;
+            }
+        }
+        pending.append(ch);
+    }
+
+}
@@ -37,9 +37,15 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ErrorMessageFormatter {
 
+    private static final int CALL_STACK_HEAD = 10;
+
+    private static final int CALL_STACK_TAIL = 10;
+
     public static String getSource(SourceCodeRef sourceCodeRef) throws IOException {
         if (sourceCodeRef == null || !sourceCodeRef.hasPosition()) {
             return "";
@@ -187,10 +193,56 @@ public class ErrorMessageFormatter {
         message.append(evalError.getDescription());
         message.append('\n');
         appendSource(message, sourceCodeRef);
+        appendCallStack(message, evalError.getCallStack(), project);
 
         return message;
     }
 
+    /**
+     * Prints the call sites, one line per run of repeated frames (as in a recursion). Only the first
+     * and last ones are printed when there are too many.
+     */
+    private static void appendCallStack(StringBuilder message, List<SourceCodeRef> callStack, Project project) {
+        List<String> frames = new ArrayList<>();
+        List<Integer> repeats = new ArrayList<>();
+        for (SourceCodeRef callSite : callStack) {
+            String frame = getPathOf(callSite.getFile(), project);
+            if (callSite.hasPosition()) {
+                frame += ":" + callSite.getLineStart() + ":" + callSite.getCharStart();
+            }
+            int last = frames.size() - 1;
+            if (last >= 0 && frames.get(last).equals(frame)) {
+                repeats.set(last, repeats.get(last) + 1);
+            } else {
+                frames.add(frame);
+                repeats.add(1);
+            }
+        }
+
+        int skipFrom = frames.size();
+        int skipTo = frames.size();
+        if (frames.size() > CALL_STACK_HEAD + CALL_STACK_TAIL) {
+            skipFrom = CALL_STACK_HEAD;
+            skipTo = frames.size() - CALL_STACK_TAIL;
+        }
+        for (int i = 0; i < frames.size(); i++) {
+            if (i == skipFrom) {
+                int skipped = 0;
+                for (int j = skipFrom; j < skipTo; j++) {
+                    skipped += repeats.get(j);
+                }
+                message.append("  ... ").append(skipped).append(" more\n");
+                i = skipTo - 1;
+                continue;
+            }
+            message.append("  at ").append(frames.get(i));
+            if (repeats.get(i) > 1) {
+                message.append(" (repeated ").append(repeats.get(i)).append(" times)");
+            }
+            message.append('\n');
+        }
+    }
+
     public static StringBuilder getMessage(ParserError parserError, Project project) {
         StringBuilder message = new StringBuilder();
         SourceCodeRef sourceCodeRef = parserError.getSourceCodeRef();
@@ -24,36 +24,165 @@ SOFTWARE.
 
 package dev.kobu.interpreter.ast.utils;
 
-import java.util.regex.Pattern;
-
 public class TemplateIndentation {
 
-    public static int getInsertionIndex(String str, boolean fromInit) {
-        Pattern pattern;
-        if (fromInit) {
-            pattern = Pattern.compile("(\\n[\\s]*).*$");
-        } else {
-            pattern = Pattern.compile("(\\n.*)$");
+    public static int getInsertionIndex(CharSequence str, boolean fromInit) {
+        return getInsertionIndex(str, 0, str.length(), fromInit);
+    }
+
+    /**
+     * Column at which content following str[from, to) is inserted. Matches the first
+     * '\n' whose tail (leading blanks only, if fromInit) runs to the end of the text.
+     */
+    public static int getInsertionIndex(CharSequence str, int from, int to, boolean fromInit) {
+        for (int p = from; p < to; p++) {
+            if (str.charAt(p) != '\n') {
+                continue;
+            }
+            int start = p + 1;
+            if (!fromInit) {
+                int lineEnd = lineEnd(str, start, to);
+                if (isEnd(str, from, to, lineEnd)) {
+                    return lineEnd - start;
+                }
+                continue;
+            }
+
+            int blankEnd = start;
+            while (blankEnd < to && isBlank(str.charAt(blankEnd))) {
+                blankEnd++;
+            }
+            int lineEnd = lineEnd(str, blankEnd, to);
+            for (int i = blankEnd; i >= start; i--) {
+                if (i < blankEnd && isLineTerminator(str.charAt(i))) {
+                    lineEnd = i;
+                }
+                if (isEnd(str, from, to, lineEnd)) {
+                    return i - start;
+                }
+            }
+            // every '\n' inside the blank run shares its end, so none of them can match either
+            p = blankEnd - 1;
         }
-        var matcher = pattern.matcher(str);
-        if (matcher.find()) {
-            return matcher.group(1).length() - 1;
+        return 0;
+    }
+
+    /**
+     * Start of a suffix of str that yields the same insertion index as str, however the text
+     * continues. No '\n' before a non-blank character that has a line break two or more
+     * characters later can match, so everything before the last such character is dropped.
+     */
+    public static int getInsertionTailStart(CharSequence str) {
+        boolean broken = false;
+        for (int i = str.length() - 3; i >= 0; i--) {
+            char ch = str.charAt(i);
+            if (isLineTerminator(ch)) {
+                broken = true;
+            } else if (broken && !isBlank(ch)) {
+                return i;
+            }
         }
         return 0;
     }
 
     public static String indent(String str, int margin, boolean trim) {
-        String marginStr = "\n" + " ".repeat(margin);
-
+        StringBuilder out = new StringBuilder(str.length());
         if (trim) {
-            return str
-                    .replaceAll("\\r\\n", "\n")
-                    .replaceAll("^\\n", "")
-                    .replaceAll("\\n$", "")
-                    .replaceAll("\\n", marginStr);
-        }
-        return str
-                .replaceAll("\\n", marginStr);
+            appendIndented(out, trim(str), margin);
+        } else {
+            appendIndented(out, str, margin);
+        }
+        return out.toString();
+    }
+
+    public static void appendIndented(StringBuilder out, CharSequence str, int margin) {
+        int length = str.length();
+        if (margin == 0) {
+            out.append(str);
+            return;
+        }
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            if (str.charAt(i) == '\n') {
+                out.append(str, start, i + 1);
+                for (int j = 0; j < margin; j++) {
+                    out.append(' ');
+                }
+                start = i + 1;
+            }
+        }
+        out.append(str, start, length);
+    }
+
+    /**
+     * Normalizes CRLF line breaks and drops one leading line break and the trailing ones.
+     */
+    public static String trim(CharSequence str) {
+        int length = str.length();
+        StringBuilder normalized = new StringBuilder(length);
+        boolean started = false;
+        for (int i = 0; i < length; i++) {
+            char ch = str.charAt(i);
+            if (ch == '\r' && i + 1 < length && str.charAt(i + 1) == '\n') {
+                continue;
+            }
+            if (!started) {
+                started = true;
+                if (ch == '\n') {
+                    continue;
+                }
+            }
+            normalized.append(ch);
+        }
+        return trimEnd(normalized);
+    }
+
+    /**
+     * Drops the line breaks that end the text, the way a '\\n$' pattern would.
+     */
+    public static String trimEnd(CharSequence str) {
+        int length = str.length();
+        StringBuilder out = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            char ch = str.charAt(i);
+            if (ch != '\n' || !isEnd(str, 0, length, i + 1)) {
+                out.append(ch);
+            }
+        }
+        return out.toString();
+    }
+
+    private static int lineEnd(CharSequence str, int index, int to) {
+        while (index < to && !isLineTerminator(str.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    // same positions as the '$' anchor of a single-line java.util.regex pattern
+    private static boolean isEnd(CharSequence str, int from, int to, int index) {
+        if (index == to) {
+            return true;
+        }
+        if (index == to - 2) {
+            return str.charAt(index) == '\r' && str.charAt(index + 1) == '\n';
+        }
+        if (index == to - 1) {
+            char ch = str.charAt(index);
+            if (ch == '\n') {
+                return index == from || str.charAt(index - 1) != '\r';
+            }
+            return isLineTerminator(ch);
+        }
+        return false;
+    }
+
+    private static boolean isLineTerminator(char ch) {
+        return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+    }
+
+    private static boolean isBlank(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000B' || ch == '\f' || ch == '\r';
     }
 
 }
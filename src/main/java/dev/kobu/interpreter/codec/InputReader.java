@@ -26,8 +26,6 @@ package dev.kobu.interpreter.codec;
 
 import dev.kobu.antlr.java.JavaLexer;
 import dev.kobu.antlr.java.JavaParser;
-import dev.kobu.antlr.json.JSONLexer;
-import dev.kobu.antlr.json.JSONParser;
 import dev.kobu.interpreter.ast.eval.ValueExpr;
 import dev.kobu.interpreter.ast.eval.context.EvalContext;
 import dev.kobu.interpreter.ast.eval.expr.value.ArrayValueExpr;
@@ -41,7 +39,7 @@ import dev.kobu.interpreter.ast.symbol.array.ArrayTypeFactory;
 import dev.kobu.interpreter.codec.impl.JavaParserVisitor;
 import dev.kobu.interpreter.error.eval.IllegalArgumentError;
 import dev.kobu.interpreter.codec.impl.CsvFileParser;
-import dev.kobu.interpreter.codec.impl.JsonParserVisitor;
+import dev.kobu.interpreter.codec.impl.JsonFileParser;
 import dev.kobu.interpreter.codec.impl.XmlFileParser;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -94,7 +92,7 @@ public class InputReader {
     }
 
     public static Type getJsonType(ModuleScope moduleScope) {
-        return (Type) moduleScope.resolve(JsonParserVisitor.JSON_FILE_TYPE);
+        return (Type) moduleScope.resolve(JsonFileParser.JSON_FILE_TYPE);
     }
 
     public static ValueExpr parseJson(ModuleScope moduleScope, EvalContext context, String filePath, InputStream in,
@@ -111,13 +109,8 @@ public class InputReader {
             charset = Charset.forName(charsetExpr.getValue());
         }
 
-        var input = CharStreams.fromStream(in, charset);
-        var lexer = new JSONLexer(input);
-        var tokens = new CommonTokenStream(lexer);
-        var parser = new JSONParser(tokens);
-        var tree = parser.json();
-        var visitor = new JsonParserVisitor(moduleScope, context, recordTypeExpr.getValue(), filePath, sourceCodeRef);
-        return visitor.visit(tree);
+        var parser = new JsonFileParser(moduleScope, context, recordTypeExpr.getValue(), filePath, charset, sourceCodeRef);
+        return parser.parse(in);
     }
 
     public static Type getXmlType(ModuleScope moduleScope) {
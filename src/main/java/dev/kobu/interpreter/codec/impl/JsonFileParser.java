@@ -0,0 +1,404 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.interpreter.codec.impl;
+
+import dev.kobu.interpreter.ast.eval.ValueExpr;
+import dev.kobu.interpreter.ast.eval.context.EvalContext;
+import dev.kobu.interpreter.ast.eval.expr.value.*;
+import dev.kobu.interpreter.ast.eval.expr.value.number.NumberValueFactory;
+import dev.kobu.interpreter.ast.symbol.*;
+import dev.kobu.interpreter.ast.symbol.array.ArrayType;
+import dev.kobu.interpreter.ast.symbol.array.ArrayTypeFactory;
+import dev.kobu.interpreter.ast.symbol.tuple.TupleType;
+import dev.kobu.interpreter.ast.symbol.tuple.TupleTypeElement;
+import dev.kobu.interpreter.ast.utils.RecordFactory;
+import dev.kobu.interpreter.error.eval.InvalidCallError;
+import org.apache.commons.text.StringEscapeUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+
+public class JsonFileParser {
+
+    public static final String JSON_FILE_TYPE = "JsonFile";
+
+    private static final int EOF = -1;
+
+    private final ModuleScope moduleScope;
+
+    private final EvalContext context;
+
+    private final RecordTypeSymbol recordType;
+
+    private final String filePath;
+
+    private final Charset charset;
+
+    private final SourceCodeRef sourceCodeRef;
+
+    private final Stack<String> path = new Stack<>();
+
+    private final StringBuilder token = new StringBuilder();
+
+    private final char[] buffer = new char[8192];
+
+    private Reader reader;
+
+    private int position;
+
+    private int limit;
+
+    private int current;
+
+    private int line = 1;
+
+    private int column;
+
+    public JsonFileParser(ModuleScope moduleScope, EvalContext context, RecordTypeSymbol recordType,
+                          String filePath, Charset charset, SourceCodeRef sourceCodeRef) {
+        this.moduleScope = moduleScope;
+        this.context = context;
+        this.recordType = recordType;
+        this.filePath = filePath;
+        this.charset = charset;
+        this.sourceCodeRef = sourceCodeRef;
+    }
+
+    public ValueExpr parse(InputStream in) throws IOException {
+        reader = new InputStreamReader(in, charset);
+        next();
+        if (current == '\uFEFF') {
+            next();
+        }
+
+        var record = RecordFactory.create(moduleScope, context, JSON_FILE_TYPE);
+        FileValueExpr fileExpr = new FileValueExpr(new File(filePath));
+        record.updateFieldValue(context, "file", fileExpr);
+        record.updateFieldValue(context, "json", readValue(recordType));
+        skipWhitespace();
+        if (current != EOF) {
+            throwSyntaxError("end of file expected");
+        }
+
+        return record;
+    }
+
+    private ValueExpr readValue(Type type) throws IOException {
+        skipWhitespace();
+        switch (current) {
+            case '{':
+                return readObject(type);
+            case '[':
+                return readArray(type);
+            case '"':
+                return new StringValueExpr(readString());
+            case 't':
+                readKeyword("true");
+                return BooleanValueExpr.TRUE;
+            case 'f':
+                readKeyword("false");
+                return BooleanValueExpr.FALSE;
+            case 'n':
+                readKeyword("null");
+                return new NullValueExpr();
+            default:
+                return NumberValueFactory.parse(readNumber());
+        }
+    }
+
+    private ValueExpr readObject(Type type) throws IOException {
+        var record = RecordFactory.create(context, (RecordTypeSymbol) type);
+        next();
+        skipWhitespace();
+        if (current == '}') {
+            next();
+            return record;
+        }
+
+        do {
+            skipWhitespace();
+            var field = readString().replaceAll("[^a-zA-Z0-9_]+", "_");
+            skipWhitespace();
+            expect(':');
+
+            Type fieldType = type.resolveField(field);
+            if (fieldType != null) {
+                path.push(field);
+                ValueExpr fieldValue = readValue(fieldType);
+                if (fieldType.isAssignableFrom(fieldValue.getType())) {
+                    record.updateFieldValue(context, field, fieldValue);
+                } else {
+                    throwInvalidPathError(fieldType, fieldValue.getType());
+                }
+                path.pop();
+            } else {
+                skipValue();
+            }
+            skipWhitespace();
+        } while (consume(','));
+        expect('}');
+
+        return record;
+    }
+
+    private ValueExpr readArray(Type type) throws IOException {
+        next();
+        skipWhitespace();
+        boolean empty = consume(']');
+
+        if (type instanceof TupleType) {
+            TupleType tupleType = (TupleType) type;
+            TupleTypeElement element = tupleType.getTypeElement();
+            List<ValueExpr> valueExprList = new ArrayList<>();
+            if (!empty) {
+                do {
+                    if (element != null) {
+                        valueExprList.add(readValue(element.getElementType()));
+                        element = element.getNext();
+                    } else {
+                        skipValue();
+                    }
+                    skipWhitespace();
+                } while (consume(','));
+                expect(']');
+            }
+
+            return new TupleValueExpr(tupleType, valueExprList);
+        } else {
+            Type elementType = BuiltinScope.ANY_TYPE;
+            if (type instanceof ArrayType) {
+                elementType = ((ArrayType) type).getElementType();
+            }
+
+            List<ValueExpr> valueExprList = new ArrayList<>();
+            if (!empty) {
+                do {
+                    valueExprList.add(readValue(elementType));
+                    skipWhitespace();
+                } while (consume(','));
+                expect(']');
+            }
+            return new ArrayValueExpr(ArrayTypeFactory.getArrayTypeFor(elementType), valueExprList);
+        }
+    }
+
+    private void skipValue() throws IOException {
+        skipWhitespace();
+        switch (current) {
+            case '{':
+                next();
+                skipWhitespace();
+                if (!consume('}')) {
+                    do {
+                        skipWhitespace();
+                        readString();
+                        skipWhitespace();
+                        expect(':');
+                        skipValue();
+                        skipWhitespace();
+                    } while (consume(','));
+                    expect('}');
+                }
+                break;
+            case '[':
+                next();
+                skipWhitespace();
+                if (!consume(']')) {
+                    do {
+                        skipValue();
+                        skipWhitespace();
+                    } while (consume(','));
+                    expect(']');
+                }
+                break;
+            case '"':
+                readString();
+                break;
+            case 't':
+                readKeyword("true");
+                break;
+            case 'f':
+                readKeyword("false");
+                break;
+            case 'n':
+                readKeyword("null");
+                break;
+            default:
+                readNumber();
+        }
+    }
+
+    private String readString() throws IOException {
+        if (current != '"') {
+            throwSyntaxError("string expected");
+        }
+        next();
+        token.setLength(0);
+        boolean escaped = false;
+        while (current != '"') {
+            if (current == EOF || current < 0x20) {
+                throwSyntaxError("unterminated string");
+            }
+            if (current == '\\') {
+                escaped = true;
+                token.append('\\');
+                next();
+                if (current == 'u') {
+                    token.append('u');
+                    for (int i = 0; i < 4; i++) {
+                        next();
+                        if (Character.digit(current, 16) < 0) {
+                            throwSyntaxError("invalid unicode escape");
+                        }
+                        token.append((char) current);
+                    }
+                } else if (current < 0 || "\"\\/bfnrt".indexOf(current) < 0) {
+                    throwSyntaxError("invalid escape sequence");
+                } else {
+                    token.append((char) current);
+                }
+            } else {
+                token.append((char) current);
+            }
+            next();
+        }
+        next();
+        return escaped ? StringEscapeUtils.unescapeJava(token.toString()) : token.toString();
+    }
+
+    private String readNumber() throws IOException {
+        token.setLength(0);
+        if (current == '-') {
+            appendNext();
+        }
+        readInt();
+        if (current == '.') {
+            appendNext();
+            if (!isDigit()) {
+                throwSyntaxError("digit expected");
+            }
+            while (isDigit()) {
+                appendNext();
+            }
+        }
+        if (current == 'e' || current == 'E') {
+            appendNext();
+            if (current == '+' || current == '-') {
+                appendNext();
+            }
+            readInt();
+        }
+        return token.toString();
+    }
+
+    private void readInt() throws IOException {
+        if (current == '0') {
+            appendNext();
+        } else if (isDigit()) {
+            while (isDigit()) {
+                appendNext();
+            }
+        } else {
+            throwSyntaxError("value expected");
+        }
+    }
+
+    private void readKeyword(String keyword) throws IOException {
+        for (int i = 0; i < keyword.length(); i++) {
+            if (current != keyword.charAt(i)) {
+                throwSyntaxError("value expected");
+            }
+            next();
+        }
+    }
+
+    private boolean isDigit() {
+        return current >= '0' && current <= '9';
+    }
+
+    private void appendNext() throws IOException {
+        token.append((char) current);
+        next();
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (current == ' ' || current == '\t' || current == '\n' || current == '\r') {
+            next();
+        }
+    }
+
+    private boolean consume(char ch) throws IOException {
+        if (current == ch) {
+            next();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char ch) throws IOException {
+        if (!consume(ch)) {
+            throwSyntaxError("'" + ch + "' expected");
+        }
+    }
+
+    private void next() throws IOException {
+        if (current == '\n') {
+            line++;
+            column = 1;
+        } else if (current != EOF) {
+            column++;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                current = EOF;
+                return;
+            }
+        }
+        current = buffer[position++];
+    }
+
+    private void throwSyntaxError(String message) {
+        String found = current == EOF ? "<EOF>" : "'" + (char) current + "'";
+        throw new InvalidCallError(filePath + ":" + line + ":" + column + ": " + message +
+                ", but got " + found, sourceCodeRef);
+    }
+
+    private void throwInvalidPathError(Type expected, Type found) {
+        String pathStr = String.join(".", path);
+        throw new InvalidCallError(pathStr + ": expected '" + expected.getName() +
+                "', but got '" + found.getName() + "'", sourceCodeRef);
+    }
+
+}
@@ -26,10 +26,19 @@ package dev.kobu.interpreter.error;
 
 import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public abstract class EvalError extends RuntimeException {
 
+    public static final String DEBUG_PROPERTY = "kobu.debug";
+
+    private static volatile boolean debug = Boolean.getBoolean(DEBUG_PROPERTY);
+
     private final SourceCodeRef sourceCodeRef;
 
+    private List<SourceCodeRef> callStack;
+
     protected EvalError(SourceCodeRef sourceCodeRef) {
         this.sourceCodeRef = sourceCodeRef;
     }
@@ -44,10 +53,40 @@ public abstract class EvalError extends RuntimeException {
         this.sourceCodeRef = sourceCodeRef;
     }
 
+    public static void setDebug(boolean debug) {
+        EvalError.debug = debug;
+    }
+
     public SourceCodeRef getSourceCodeRef() {
         return sourceCodeRef;
     }
 
+    public void addCallSite(SourceCodeRef callSite) {
+        if (callSite == null) {
+            return;
+        }
+        if (callStack == null) {
+            callStack = new ArrayList<>();
+        }
+        callStack.add(callSite);
+    }
+
+    public List<SourceCodeRef> getCallStack() {
+        return callStack != null ? callStack : List.of();
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (debug || captureStackTrace()) {
+            return super.fillInStackTrace();
+        }
+        return this;
+    }
+
+    protected boolean captureStackTrace() {
+        return false;
+    }
+
     public String getDescription() {
         if (getMessage() != null) {
             return getMessage();
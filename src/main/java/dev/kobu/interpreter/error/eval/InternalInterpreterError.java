@@ -40,6 +40,11 @@ public class InternalInterpreterError extends EvalError {
         super(cause, sourceCodeRef);
     }
 
+    @Override
+    protected boolean captureStackTrace() {
+        return true;
+    }
+
     @Override
     public String getDescription() {
         StringWriter sw = new StringWriter();
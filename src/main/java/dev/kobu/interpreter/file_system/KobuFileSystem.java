@@ -26,6 +26,7 @@ package dev.kobu.interpreter.file_system;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.List;
@@ -54,4 +55,8 @@ public interface KobuFileSystem {
 
     void writeFileContent(Path filePath, String content, Charset charset) throws IOException;
 
+    Writer getWriter(Path filePath, Charset charset, boolean append) throws IOException;
+
+    void writeFileContent(Path filePath, Charset charset, KobuFileWriter fileWriter) throws IOException;
+
 }
@@ -28,10 +28,12 @@ import dev.kobu.interpreter.file_system.*;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
 
@@ -139,6 +141,35 @@ public class LocalKobuFileSystem implements KobuFileSystem {
         }
     }
 
+    @Override
+    public Writer getWriter(Path filePath, Charset charset, boolean append) throws IOException {
+        File file = filePath.toFile();
+        File parentFile = file.getParentFile();
+        if (parentFile != null) {
+            parentFile.mkdirs();
+        }
+        return new BufferedWriter(new FileWriter(file, charset, append));
+    }
+
+    @Override
+    public void writeFileContent(Path filePath, Charset charset, KobuFileWriter fileWriter) throws IOException {
+        Path dir = filePath.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tempFile = Files.createTempFile(dir, "." + filePath.getFileName(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(tempFile, charset)) {
+                fileWriter.write(writer);
+            }
+            try {
+                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
     private KobuFile findProjectRoot(KobuFileSystemEntry entry) {
         if (entry instanceof KobuFile) {
             if (entry.getName().equals(PROJECT_CFG)) {
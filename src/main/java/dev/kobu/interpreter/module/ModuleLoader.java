@@ -52,6 +52,10 @@ import org.antlr.v4.runtime.tree.ParseTree;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 public class ModuleLoader {
@@ -88,6 +92,8 @@ public class ModuleLoader {
 
     private final Map<NativeFunctionId, NativeFunction> nativeFunctions = new HashMap<>();
 
+    private final Map<String, String> moduleSourceDigests = new TreeMap<>();
+
     private final ModuleIndex moduleIndex = new ModuleIndex();
 
 
@@ -281,6 +287,26 @@ public class ModuleLoader {
         visitor.visit(parserTree);
     }
 
+    /**
+     * Fingerprint of the sources of every module loaded so far.
+     */
+    public String getSourceFingerprint() {
+        StringBuilder fingerprint = new StringBuilder();
+        moduleSourceDigests.forEach((moduleId, digest) ->
+                fingerprint.append(moduleId).append(':').append(digest).append(';'));
+        return fingerprint.toString();
+    }
+
+    private static String digest(String source) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(source.getBytes(StandardCharsets.UTF_8));
+            return String.format("%064x", new BigInteger(1, hash));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public Project getProject() {
         return project;
     }
@@ -308,6 +334,7 @@ public class ModuleLoader {
         try (InputStream fileStream = script.newInputStream()) {
 
             var input = CharStreams.fromStream(fileStream);
+            moduleSourceDigests.put(moduleId, digest(input.toString()));
             var lexer = new KobuLexer(input);
             var tokens = new CommonTokenStream(lexer);
             var parser = new KobuParser(tokens);
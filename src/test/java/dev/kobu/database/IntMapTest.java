@@ -0,0 +1,164 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.database;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntMap")
+public class IntMapTest {
+
+    // initial table size of an empty map
+    private static final int TABLE_MASK = 15;
+
+    @Test
+    @DisplayName("Collisions -> put, get and remove keys in the same slot")
+    void collisions() {
+        List<Integer> keys = keysInSlot(3, 5);
+        var map = new IntMap<String>();
+        for (int key : keys) {
+            assertNull(map.put(key, "v" + key));
+        }
+        for (int key : keys) {
+            assertEquals("v" + key, map.get(key));
+        }
+
+        assertEquals("v" + keys.get(1), map.remove(keys.get(1)));
+        assertNull(map.get(keys.get(1)));
+        assertFalse(map.containsKey(keys.get(1)));
+        for (int key : List.of(keys.get(0), keys.get(2), keys.get(3), keys.get(4))) {
+            assertEquals("v" + key, map.get(key));
+        }
+
+        assertEquals("v" + keys.get(0), map.put(keys.get(0), "new"));
+        assertEquals("new", map.get(keys.get(0)));
+        assertEquals(4, map.size());
+    }
+
+    @Test
+    @DisplayName("Wraparound -> probing past the end of the table continues at the start")
+    void wraparound() {
+        List<Integer> lastSlot = keysInSlot(TABLE_MASK, 3);
+        List<Integer> firstSlot = keysInSlot(0, 2);
+        var map = new IntMap<String>();
+        for (int key : lastSlot) {
+            map.put(key, "last" + key);
+        }
+        for (int key : firstSlot) {
+            map.put(key, "first" + key);
+        }
+
+        // removing the entry in the last slot moves the wrapped entries back
+        map.remove(lastSlot.get(0));
+        assertNull(map.get(lastSlot.get(0)));
+        assertEquals("last" + lastSlot.get(1), map.get(lastSlot.get(1)));
+        assertEquals("last" + lastSlot.get(2), map.get(lastSlot.get(2)));
+        for (int key : firstSlot) {
+            assertEquals("first" + key, map.get(key));
+        }
+
+        map.remove(firstSlot.get(0));
+        assertEquals("last" + lastSlot.get(1), map.get(lastSlot.get(1)));
+        assertEquals("last" + lastSlot.get(2), map.get(lastSlot.get(2)));
+        assertEquals("first" + firstSlot.get(1), map.get(firstSlot.get(1)));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    @DisplayName("Growth -> entries removed before a resize are dropped and the rest kept")
+    void removeDuringGrowth() {
+        var map = new IntMap<Integer>();
+        for (int i = 0; i < 8; i++) {
+            map.put(i, i);
+        }
+        map.remove(2);
+        map.remove(5);
+
+        // the entry array is full, so this put compacts it
+        map.put(100, 100);
+        map.put(101, 101);
+        map.put(102, 102);
+        assertEquals(9, map.size());
+        assertNull(map.get(2));
+        assertNull(map.get(5));
+        assertEquals(List.of(0, 1, 3, 4, 6, 7, 100, 101, 102), new ArrayList<>(map.values()));
+
+        for (int i = 200; i < 300; i++) {
+            map.put(i, i);
+            map.remove(i - 50);
+        }
+        for (int i = 250; i < 300; i++) {
+            assertEquals(i, map.get(i));
+        }
+        assertNull(map.get(249));
+        assertEquals(List.of(0, 1, 3, 4, 6, 7, 100, 101, 102), new ArrayList<>(map.values()).subList(0, 9));
+    }
+
+    @Test
+    @DisplayName("Order -> values keep insertion order after compaction")
+    void insertionOrder() {
+        var map = new IntMap<Integer>();
+        var expected = new LinkedHashMap<Integer, Integer>();
+        var random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            int key = random.nextInt(500) - 250;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            if (i % 1000 == 0) {
+                map.removeIf(value -> value % 7 == 0);
+                expected.values().removeIf(value -> value % 7 == 0);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(map.values()));
+        for (var entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.values().iterator().hasNext());
+    }
+
+    private static List<Integer> keysInSlot(int slot, int count) {
+        List<Integer> keys = new ArrayList<>();
+        for (int key = 0; keys.size() < count; key++) {
+            int h = key * 0x9E3779B9;
+            if (((h ^ (h >>> 16)) & TABLE_MASK) == slot) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+}
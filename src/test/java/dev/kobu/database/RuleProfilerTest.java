@@ -0,0 +1,149 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.database;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Rule profiler")
+public class RuleProfilerTest {
+
+    @Test
+    @DisplayName("Report -> steps, rules by time and nodes by output")
+    void report() {
+        var profiler = createProfiler();
+
+        var out = new ByteArrayOutputStream();
+        profiler.printReport(new PrintStream(out, true, StandardCharsets.UTF_8));
+        var lines = out.toString(StandardCharsets.UTF_8).split("\\r?\\n");
+
+        assertEquals("== Rule steps ==", lines[0]);
+        assertEquals(String.format("%-10s %12.3f ms", "RULE", 1.5), lines[1]);
+        assertEquals(String.format("%-10s %12.3f ms", "TEMPLATE", 0.25), lines[2]);
+        assertEquals(String.format("%-10s %12.3f ms", "ACTION", 0.0), lines[3]);
+        assertEquals("== Rules (by time) ==", lines[5]);
+        assertEquals(String.format("%-50s %12d %12d %14.3f", "Mod.SlowRule", 2, 1, 3.0), lines[7]);
+        assertEquals(String.format("%-50s %12d %12d %14.3f", "Mod.FastRule", 1, 0, 0.5), lines[8]);
+        assertEquals("== Index nodes (by output) ==", lines[10]);
+        assertEquals(String.format("%-70s %12d %12d", "Mod.FastRule, Mod.SlowRule type Mod.Item @3:20", 4, 3),
+                lines[12]);
+        assertEquals(String.format("%-70s %12d %12d", "Mod.SlowRule field @4:8", 3, 1), lines[13]);
+        assertEquals(14, lines.length);
+    }
+
+    @Test
+    @DisplayName("JSON -> steps, rules and nodes with their owning rules")
+    void json() {
+        var profiler = createProfiler();
+        profiler.getRuleStats("Mod.\"Quoted\"\\Rule");
+
+        assertEquals("{\n" +
+                "  \"steps\": {\"RULE\": 1500000, \"TEMPLATE\": 250000, \"ACTION\": 0},\n" +
+                "  \"rules\": [\n" +
+                "    {\"name\": \"Mod.FastRule\", \"activations\": 1, \"rejected\": 0, \"timeNanos\": 500000},\n" +
+                "    {\"name\": \"Mod.SlowRule\", \"activations\": 2, \"rejected\": 1, \"timeNanos\": 3000000},\n" +
+                "    {\"name\": \"Mod.\\\"Quoted\\\"\\\\Rule\", \"activations\": 0, \"rejected\": 0, \"timeNanos\": 0}\n" +
+                "  ],\n" +
+                "  \"nodes\": [\n" +
+                "    {\"name\": \"type Mod.Item @3:20\", \"rules\": [\"Mod.FastRule\", \"Mod.SlowRule\"], " +
+                "\"received\": 4, \"produced\": 3},\n" +
+                "    {\"name\": \"field @4:8\", \"rules\": [\"Mod.SlowRule\"], \"received\": 3, \"produced\": 1}\n" +
+                "  ]\n" +
+                "}\n", profiler.toJson());
+    }
+
+    @Test
+    @DisplayName("Counters -> concurrent updates are not lost")
+    void concurrentCounters() throws Exception {
+        var profiler = new RuleProfiler();
+        var nodeStats = profiler.addNodeStats("node");
+        var ruleStats = profiler.getRuleStats("rule");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        nodeStats.incReceived();
+                        nodeStats.incProduced();
+                        ruleStats.addActivation(j % 2 == 0, 1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(40_000, nodeStats.getReceived());
+        assertEquals(40_000, nodeStats.getProduced());
+        assertEquals(40_000, ruleStats.getActivations());
+        assertEquals(20_000, ruleStats.getRejections());
+        assertEquals(40_000, ruleStats.getTime());
+    }
+
+    private RuleProfiler createProfiler() {
+        var profiler = new RuleProfiler();
+        profiler.addStepTime(RuleStepEnum.RULE, 1_000_000);
+        profiler.addStepTime(RuleStepEnum.RULE, 500_000);
+        profiler.addStepTime(RuleStepEnum.TEMPLATE, 250_000);
+
+        profiler.getRuleStats("Mod.FastRule").addActivation(true, 500_000);
+        var slowRule = profiler.getRuleStats("Mod.SlowRule");
+        slowRule.addActivation(true, 2_000_000);
+        slowRule.addActivation(false, 1_000_000);
+
+        var typeNode = profiler.addNodeStats("type Mod.Item @3:20");
+        typeNode.addRule("Mod.FastRule");
+        typeNode.addRule("Mod.SlowRule");
+        typeNode.addRule("Mod.FastRule");
+        var fieldNode = profiler.addNodeStats("field @4:8");
+        fieldNode.addRule("Mod.SlowRule");
+        for (int i = 0; i < 4; i++) {
+            typeNode.incReceived();
+        }
+        for (int i = 0; i < 3; i++) {
+            typeNode.incProduced();
+            fieldNode.incReceived();
+        }
+        fieldNode.incProduced();
+        return profiler;
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.database.index.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Agenda")
+public class AgendaTest {
+
+    @Test
+    @DisplayName("RULE_ORDER -> polls by rule order, then by arrival")
+    void ruleOrder() {
+        var first = ruleNode(0, 0);
+        var second = ruleNode(0, 1);
+        var agenda = new Agenda(ConflictResolutionStrategy.RULE_ORDER);
+        var a1 = add(agenda, second);
+        var a2 = add(agenda, first);
+        var a3 = add(agenda, second);
+        var a4 = add(agenda, first);
+
+        assertEquals(List.of(a2, a4, a1, a3), pollAll(agenda));
+    }
+
+    @Test
+    @DisplayName("FIFO -> polls in arrival order")
+    void fifo() {
+        var first = ruleNode(0, 0);
+        var second = ruleNode(0, 1);
+        var agenda = new Agenda(ConflictResolutionStrategy.FIFO);
+        var a1 = add(agenda, second);
+        var a2 = add(agenda, first);
+        var a3 = add(agenda, second);
+
+        assertEquals(List.of(a1, a2, a3), pollAll(agenda));
+    }
+
+    @Test
+    @DisplayName("RECENCY -> polls the latest activation first")
+    void recency() {
+        var first = ruleNode(0, 0);
+        var second = ruleNode(0, 1);
+        var agenda = new Agenda(ConflictResolutionStrategy.RECENCY);
+        var a1 = add(agenda, second);
+        var a2 = add(agenda, first);
+        var a3 = add(agenda, second);
+
+        assertEquals(List.of(a3, a2, a1), pollAll(agenda));
+    }
+
+    @Test
+    @DisplayName("Priority -> higher priorities come first with every strategy")
+    void priority() {
+        var parent = ruleNode(0, 0);
+        var child = ruleNode(1, 1);
+        for (var strategy : List.of(ConflictResolutionStrategy.RULE_ORDER, ConflictResolutionStrategy.FIFO,
+                ConflictResolutionStrategy.RECENCY)) {
+            var agenda = new Agenda(strategy);
+            var a1 = add(agenda, parent);
+            var a2 = add(agenda, child);
+
+            assertEquals(List.of(a2, a1), pollAll(agenda));
+        }
+    }
+
+    @Test
+    @DisplayName("pollLevel -> returns the activations of the highest priority only")
+    void pollLevel() {
+        var parent = ruleNode(0, 0);
+        var child = ruleNode(1, 1);
+        var agenda = new Agenda(ConflictResolutionStrategy.FIFO);
+        var a1 = add(agenda, parent);
+        var a2 = add(agenda, child);
+        var a3 = add(agenda, parent);
+        var a4 = add(agenda, child);
+
+        assertEquals(List.of(a2, a4), agenda.pollLevel());
+        assertEquals(List.of(a1, a3), agenda.pollLevel());
+        assertTrue(agenda.pollLevel().isEmpty());
+        assertTrue(agenda.isEmpty());
+    }
+
+    @Test
+    @DisplayName("setStrategy -> reorders the queued activations")
+    void setStrategy() {
+        var node = ruleNode(0, 0);
+        var agenda = new Agenda(ConflictResolutionStrategy.FIFO);
+        var a1 = add(agenda, node);
+        var a2 = add(agenda, node);
+        var a3 = add(agenda, node);
+        agenda.setStrategy(ConflictResolutionStrategy.RECENCY);
+
+        assertEquals(List.of(a3, a2, a1), pollAll(agenda));
+    }
+
+    @Test
+    @DisplayName("fromName -> resolves names and defaults to RULE_ORDER")
+    void fromName() {
+        assertSame(ConflictResolutionStrategy.FIFO, ConflictResolutionStrategy.fromName("fifo"));
+        assertSame(ConflictResolutionStrategy.RECENCY, ConflictResolutionStrategy.fromName("Recency"));
+        assertSame(ConflictResolutionStrategy.RULE_ORDER, ConflictResolutionStrategy.fromName("ruleOrder"));
+        assertSame(ConflictResolutionStrategy.RULE_ORDER, ConflictResolutionStrategy.fromName(null));
+    }
+
+    private RuleIndexNode ruleNode(int priority, int order) {
+        var node = new RuleIndexNode(null, null, null);
+        node.setPriority(priority);
+        node.setOrder(order);
+        return node;
+    }
+
+    private RuleActivation add(Agenda agenda, RuleIndexNode node) {
+        var activation = new RuleActivation(node, null);
+        agenda.add(activation);
+        return activation;
+    }
+
+    private List<RuleActivation> pollAll(Agenda agenda) {
+        List<RuleActivation> activations = new ArrayList<>();
+        RuleActivation activation;
+        while ((activation = agenda.poll()) != null) {
+            activations.add(activation);
+        }
+        return activations;
+    }
+
+}
@@ -24,10 +24,15 @@ SOFTWARE.
 
 package dev.kobu.integration;
 
+import dev.kobu.config.Project;
+import dev.kobu.database.RuleProfiler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("Integration test - database")
 public class DatabaseIntegrationTest extends IntegrationTestBase {
@@ -52,4 +57,67 @@ public class DatabaseIntegrationTest extends IntegrationTestBase {
         runTest("database/src/JavaBuilder.kobu", "database/out/JavaBuilder.out");
     }
 
+    @Test
+    void updateRecord() throws IOException {
+        runTest("database/src/UpdateRecord.kobu", "database/out/UpdateRecord.out");
+    }
+
+    @Test
+    void retractJoin() throws IOException {
+        runTest("database/src/RetractJoin.kobu", "database/out/RetractJoin.out");
+    }
+
+    @Test
+    void templateFiles() throws IOException {
+        runTest("database/src/TemplateFiles.kobu", "database/out/TemplateFiles.out");
+    }
+
+    @Test
+    void templateIndent() throws IOException {
+        runTest("database/src/TemplateIndent.kobu", "database/out/TemplateIndent.out");
+    }
+
+    @Test
+    void joinKeys() throws IOException {
+        runTest("database/src/JoinKeys.kobu", "database/out/JoinKeys.out");
+    }
+
+    @Test
+    void typeDispatch() throws IOException {
+        runTest("database/src/TypeDispatch.kobu", "database/out/TypeDispatch.out");
+    }
+
+    @Test
+    void agendaStrategy() throws IOException {
+        runTest("database/src/AgendaStrategy.kobu", "database/out/AgendaStrategy.out");
+        runTest("database/src/AgendaStrategy.kobu", "database/out/AgendaStrategy.out",
+                Map.of(Project.CONFLICT_RESOLUTION_PROPERTY, "ruleOrder"));
+        runTest("database/src/AgendaStrategy.kobu", "database/out/AgendaStrategyFifo.out",
+                Map.of(Project.CONFLICT_RESOLUTION_PROPERTY, "fifo"));
+        runTest("database/src/AgendaStrategy.kobu", "database/out/AgendaStrategyRecency.out",
+                Map.of(Project.CONFLICT_RESOLUTION_PROPERTY, "recency"));
+    }
+
+    @Test
+    void nodeSharing() throws IOException {
+        var profiler = new RuleProfiler();
+        runTest("database/src/NodeSharing.kobu", "database/out/NodeSharing.out", Map.of(), profiler);
+
+        var json = profiler.toJson();
+        assertTrue(json.contains("{\"name\": \"type NodeSharing.Item @7:23\", " +
+                "\"rules\": [\"NodeSharing.FirstRule\", \"NodeSharing.SecondRule\"], " +
+                "\"received\": 2, \"produced\": 2}"), json);
+        assertTrue(json.contains("{\"name\": \"type NodeSharing.Item @15:27\", " +
+                "\"rules\": [\"NodeSharing.OtherBindRule\"], \"received\": 2, \"produced\": 2}"), json);
+        assertTrue(json.contains("{\"name\": \"NodeSharing.FirstRule\", \"activations\": 2"), json);
+        assertTrue(json.contains("{\"name\": \"NodeSharing.SecondRule\", \"activations\": 2"), json);
+    }
+
+    @Test
+    void parallelAgenda() throws IOException {
+        runTest("database/src/ParallelAgenda.kobu", "database/out/ParallelAgenda.out");
+        runTest("database/src/ParallelAgenda.kobu", "database/out/ParallelAgenda.out",
+                Map.of(Project.PARALLEL_AGENDA_PROPERTY, "true"));
+    }
+
 }
@@ -25,18 +25,34 @@ SOFTWARE.
 package dev.kobu.integration;
 
 import dev.kobu.KobuScriptRunner;
+import dev.kobu.config.Project;
+import dev.kobu.config.ProjectProperty;
+import dev.kobu.config.ProjectReader;
+import dev.kobu.database.RuleProfiler;
 import dev.kobu.interpreter.file_system.local.LocalKobuFile;
 import dev.kobu.interpreter.file_system.local.LocalKobuFileSystem;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public abstract class IntegrationTestBase {
 
     protected void runTest(String scriptPath, String expectedResultPath, String... args) throws IOException {
+        runTest(scriptPath, expectedResultPath, Map.of(), args);
+    }
+
+    protected void runTest(String scriptPath, String expectedResultPath, Map<String, String> properties,
+                           String... args) throws IOException {
+        runTest(scriptPath, expectedResultPath, properties, null, args);
+    }
+
+    protected void runTest(String scriptPath, String expectedResultPath, Map<String, String> properties,
+                           RuleProfiler profiler, String... args) throws IOException {
         try (InputStream expectedResultIn = getInputStream(expectedResultPath)) {
             var expectedResult = new String(expectedResultIn.readAllBytes(), StandardCharsets.UTF_8);
             expectedResult = expectedResult.replaceAll("\\r\\n?", "\n");
@@ -44,7 +60,23 @@ public abstract class IntegrationTestBase {
             var fileSystem = new LocalKobuFileSystem();
             var scriptFile = new LocalKobuFile(new File(getFullPath(scriptPath)));
 
-            var runner = new KobuScriptRunner(fileSystem, scriptFile, Arrays.asList(args));
+            KobuScriptRunner runner;
+            if (properties.isEmpty()) {
+                runner = new KobuScriptRunner(fileSystem, scriptFile, Arrays.asList(args));
+            } else {
+                Project project = new ProjectReader(fileSystem).load(fileSystem.findProjectDefinition(scriptFile));
+                if (project.getProperties() == null) {
+                    project.setProperties(new ArrayList<>());
+                }
+                properties.forEach((name, value) -> {
+                    var property = new ProjectProperty();
+                    property.setName(name);
+                    property.setValue(value);
+                    project.getProperties().add(property);
+                });
+                runner = new KobuScriptRunner(fileSystem, scriptFile, Arrays.asList(args), project, null);
+            }
+            runner.setProfiler(profiler);
             var out = new ByteArrayOutputStream();
             var outPrintStream = new PrintStream(out);
             runner.run(outPrintStream, outPrintStream);
@@ -58,7 +90,7 @@ public abstract class IntegrationTestBase {
         return new FileInputStream(getFullPath(path));
     }
 
-    private String getFullPath(String path) {
+    protected String getFullPath(String path) {
         File dir = new File("src/test/resources/dev/kobu/integration");
         return new File(dir, path).getAbsolutePath();
     }
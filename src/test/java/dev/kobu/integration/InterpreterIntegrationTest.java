@@ -24,10 +24,21 @@ SOFTWARE.
 
 package dev.kobu.integration;
 
+import dev.kobu.EntryCliCommand;
+import dev.kobu.interpreter.error.EvalError;
+import dev.kobu.interpreter.error.eval.InternalInterpreterError;
+import dev.kobu.interpreter.error.eval.NullPointerError;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import picocli.CommandLine;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("Integration test - interpreter")
 public class InterpreterIntegrationTest extends IntegrationTestBase {
@@ -58,4 +69,85 @@ public class InterpreterIntegrationTest extends IntegrationTestBase {
     void fileSystemAPI() throws IOException {
         runTest("interpreter/src/FileSystemAPI.kobu", "interpreter/out/FileSystemAPI.out");
     }
+
+    @Test
+    void shadowing() throws IOException {
+        runTest("interpreter/src/Shadowing.kobu", "interpreter/out/Shadowing.out");
+    }
+
+    @Test
+    void boundCalls() throws IOException {
+        runTest("interpreter/src/BoundCalls.kobu", "interpreter/out/BoundCalls.out");
+    }
+
+    @Test
+    void closures() throws IOException {
+        runTest("interpreter/src/Closures.kobu", "interpreter/out/Closures.out");
+    }
+
+    @Test
+    void tailCalls() throws IOException {
+        runTest("interpreter/src/TailCalls.kobu", "interpreter/out/TailCalls.out");
+    }
+
+    @Test
+    void stackSizeOption() {
+        var script = getFullPath("interpreter/src/DeepRecursion.kobu");
+        var out = new ByteArrayOutputStream();
+        var err = new ByteArrayOutputStream();
+        PrintStream stdout = System.out;
+        PrintStream stderr = System.err;
+        System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+        System.setErr(new PrintStream(err, true, StandardCharsets.UTF_8));
+        try {
+            assertEquals(0, runCli("run", "--stack-size", "256", script));
+            assertEquals(1, runCli("run", "--stack-size", "1", script));
+            assertEquals(1, runCli("run", "--stack-size", "0", script));
+            assertEquals(1, runCli("run", "--stack-size", "-8", script));
+        } finally {
+            System.setOut(stdout);
+            System.setErr(stderr);
+        }
+        assertEquals("50000\n", out.toString(StandardCharsets.UTF_8).replaceAll("\\r\\n?", "\n"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("StackOverflowError"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Invalid stack size: 0"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Invalid stack size: -8"));
+    }
+
+    @Test
+    void callStack() throws IOException {
+        runTest("interpreter/src/CallStack.kobu", "interpreter/out/CallStack.out");
+        runTest("interpreter/src/CallStackLimit.kobu", "interpreter/out/CallStackLimit.out");
+    }
+
+    @Test
+    void stacklessErrors() {
+        assertEquals(0, new NullPointerError("test", null).getStackTrace().length);
+        assertTrue(new InternalInterpreterError("test", null).getStackTrace().length > 0);
+    }
+
+    @Test
+    void debugOption() {
+        var script = getFullPath("interpreter/src/CallStack.kobu");
+        var err = new ByteArrayOutputStream();
+        PrintStream stdout = System.out;
+        PrintStream stderr = System.err;
+        System.setOut(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        System.setErr(new PrintStream(err, true, StandardCharsets.UTF_8));
+        try {
+            assertEquals(1, runCli("run", "--debug", script));
+            assertTrue(new NullPointerError("test", null).getStackTrace().length > 0);
+        } finally {
+            EvalError.setDebug(false);
+            System.setOut(stdout);
+            System.setErr(stderr);
+        }
+        var message = err.toString(StandardCharsets.UTF_8).replaceAll("\\r\\n?", "\n");
+        assertTrue(message.contains("count down reached zero"));
+        assertTrue(message.contains("CallStack.kobu:7:15 (repeated 100 times)\n"));
+    }
+
+    private int runCli(String... args) {
+        return new CommandLine(new EntryCliCommand()).execute(args);
+    }
 }
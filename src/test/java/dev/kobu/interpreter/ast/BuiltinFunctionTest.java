@@ -0,0 +1,121 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.interpreter.ast;
+
+import dev.kobu.interpreter.ast.eval.ValueExpr;
+import dev.kobu.interpreter.ast.eval.context.EvalContext;
+import dev.kobu.interpreter.ast.eval.expr.value.NullValueExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.StringValueExpr;
+import dev.kobu.interpreter.ast.eval.function.BuiltinGlobalFunction;
+import dev.kobu.interpreter.ast.eval.function.global.conf.EnvFunctionImpl;
+import dev.kobu.interpreter.ast.symbol.BuiltinFunctionSymbol;
+import dev.kobu.interpreter.ast.symbol.SourceCodeRef;
+import dev.kobu.interpreter.ast.symbol.function.FunctionParameter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Builtin functions")
+public class BuiltinFunctionTest extends AstTestBase {
+
+    @Test
+    @DisplayName("Registration -> parameters read by the impl must match the declaration")
+    void checkParameters() {
+        assertDoesNotThrow(() -> new BuiltinFunctionSymbol("env", new EnvFunctionImpl(), stringType(),
+                new FunctionParameter("var", stringType(), false),
+                new FunctionParameter("default", stringType(), true)));
+
+        var renamed = assertThrows(IllegalStateException.class, () -> new BuiltinFunctionSymbol("env",
+                new EnvFunctionImpl(), stringType(),
+                new FunctionParameter("name", stringType(), false),
+                new FunctionParameter("default", stringType(), true)));
+        assertEquals("env is declared with parameters [name, default], but EnvFunctionImpl reads [var, default]",
+                renamed.getMessage());
+
+        assertThrows(IllegalStateException.class, () -> new BuiltinFunctionSymbol("env",
+                new EnvFunctionImpl(), stringType(),
+                new FunctionParameter("default", stringType(), true),
+                new FunctionParameter("var", stringType(), false)));
+
+        assertThrows(IllegalStateException.class, () -> new BuiltinFunctionSymbol("env",
+                new EnvFunctionImpl(), stringType(),
+                new FunctionParameter("var", stringType(), false)));
+    }
+
+    @Test
+    @DisplayName("Registration -> impls without declared names accept any parameters")
+    void uncheckedParameters() {
+        assertDoesNotThrow(() -> new BuiltinFunctionSymbol("join", new JoinFunctionImpl(), stringType(),
+                new FunctionParameter("x", stringType(), false)));
+    }
+
+    @Test
+    @DisplayName("Call -> arguments are passed by position, missing and null ones as null")
+    void positionalArguments() {
+        var impl = new JoinFunctionImpl("first", "second", "third");
+        new BuiltinFunctionSymbol("join", impl, stringType(),
+                new FunctionParameter("first", stringType(), false),
+                new FunctionParameter("second", stringType(), true),
+                new FunctionParameter("third", stringType(), true));
+        var evalContext = evalContext(module("mod"));
+
+        assertEquals(stringVal("a,b,c"), impl.run(evalContext,
+                List.of(stringVal("a"), stringVal("b"), stringVal("c")), null));
+        assertEquals(stringVal("a,null,null"), impl.run(evalContext,
+                List.of(stringVal("a"), new NullValueExpr()), null));
+    }
+
+    private static class JoinFunctionImpl extends BuiltinGlobalFunction {
+
+        JoinFunctionImpl(String... parameterNames) {
+            super(parameterNames);
+        }
+
+        JoinFunctionImpl() {
+        }
+
+        @Override
+        protected ValueExpr run(EvalContext context, ValueExpr[] args, SourceCodeRef sourceCodeRef) {
+            StringBuilder result = new StringBuilder();
+            for (ValueExpr arg : args) {
+                if (result.length() > 0) {
+                    result.append(',');
+                }
+                result.append(arg != null ? ((StringValueExpr) arg).getValue() : "null");
+            }
+            return new StringValueExpr(result.toString());
+        }
+
+        @Override
+        public String getDocumentation() {
+            return "";
+        }
+
+    }
+
+}
@@ -315,4 +315,43 @@ public class ControlStructureTest extends AstTestBase {
         assertNoErrors();
         assertVar(evalContext, countVar.getName(), numberType(), numberVal(5));
     }
+
+    @Test
+    @DisplayName("'return' inside a loop and statements after 'break'")
+    void testReturnAndBreakInsideLoops() {
+        var myFunc = functionSymbol(module, "firstAbove", numberType(),
+                functionParameter("n", numberType()));
+        myFunc.setBlock(block(
+                var(module, "idx", numberVal(0)),
+                ifStatement(equals(ref(module, "n"), numberVal(-1)), block(
+                        assign(ref(module, "idx"), numberVal(0))
+                )),
+                whileStatement(less(ref(module, "idx"), numberVal(100)), block(
+                        ifStatement(equals(ref(module, "idx"), ref(module, "n")), block(
+                                returnStatement(ref(module, "idx"))
+                        )),
+                        postInc(ref(module, "idx"))
+                )),
+                returnStatement(numberVal(-1))
+        ));
+        myFunc.analyze(analyzerContext, evalContextProvider);
+
+        var countVar = var(module, "count", numberVal(0));
+        var afterVar = var(module, "after", numberVal(0));
+        var whileStat = whileStatement(less(ref(module, "count"), numberVal(10)), block(
+                postInc(ref(module, "count")),
+                ifStatement(equals(ref(module, "count"), numberVal(3)), block(
+                        breakStatement()
+                ))
+        ));
+        var assignAfter = assign(ref(module, "after"), ref(module, "count"));
+        var myVar = var(module, "myVar", functionCall(module, "firstAbove", functionArg(numberVal(7))));
+
+        analyze(module, block(countVar, afterVar, whileStat, assignAfter, myVar));
+        var evalContext = eval(module, block(countVar, afterVar, whileStat, assignAfter, myVar));
+        assertNoErrors();
+        assertVar(evalContext, countVar.getName(), numberType(), numberVal(3));
+        assertVar(evalContext, myVar.getName(), numberType(), numberVal(7));
+        assertVar(evalContext, afterVar.getName(), numberType(), numberVal(3));
+    }
 }
@@ -24,6 +24,7 @@ SOFTWARE.
 
 package dev.kobu.interpreter.ast;
 
+import dev.kobu.interpreter.ast.eval.Expr;
 import dev.kobu.interpreter.ast.eval.statement.IfStatement;
 import dev.kobu.interpreter.ast.eval.statement.ReturnStatement;
 import dev.kobu.interpreter.ast.symbol.function.FunctionParameter;
@@ -34,6 +35,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 @DisplayName("Functions")
 public class FunctionTest extends AstTestBase {
 
@@ -68,6 +71,30 @@ public class FunctionTest extends AstTestBase {
         assertVar(evalContext, "myVar2", stringType(), stringVal("str2_suffix"));
     }
 
+    @Test
+    @DisplayName("Function call -> arguments are bound to the parameter slots on every call")
+    void testArgumentSlots() {
+        var parameters = new FunctionParameter[10];
+        Expr body = stringVal("");
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = functionParameter("p" + i, stringType(), i == parameters.length - 1);
+            body = add(body, ref(module, "p" + i));
+        }
+        var myFunc = functionSymbol(module, "myFunc", stringType(), parameters);
+        myFunc.setBlock(block(returnStatement(body)));
+        myFunc.analyze(analyzerContext, evalContextProvider);
+
+        assertEquals(stringVal("abcdefghij"), run(myFunc, stringVal("a"), stringVal("b"), stringVal("c"),
+                stringVal("d"), stringVal("e"), stringVal("f"), stringVal("g"), stringVal("h"), stringVal("i"),
+                stringVal("j")));
+        assertEquals(stringVal("0123456789"), run(myFunc, stringVal("0"), stringVal("1"), stringVal("2"),
+                stringVal("3"), stringVal("4"), stringVal("5"), stringVal("6"), stringVal("7"), stringVal("8"),
+                stringVal("9")));
+        assertEquals(stringVal("abcdefghinull"), run(myFunc, stringVal("a"), stringVal("b"), stringVal("c"),
+                stringVal("d"), stringVal("e"), stringVal("f"), stringVal("g"), stringVal("h"), stringVal("i")));
+        assertNoErrors();
+    }
+
     @Test
     @DisplayName("Type checker -> return statement type checker")
     void testReturnTypeChecker() {
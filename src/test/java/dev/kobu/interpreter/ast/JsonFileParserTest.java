@@ -0,0 +1,150 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.interpreter.ast;
+
+import dev.kobu.interpreter.ast.eval.ValueExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.*;
+import dev.kobu.interpreter.ast.eval.expr.value.number.NumberValueExpr;
+import dev.kobu.interpreter.ast.symbol.ModuleScope;
+import dev.kobu.interpreter.ast.symbol.RecordTypeSymbol;
+import dev.kobu.interpreter.codec.impl.JsonFileParser;
+import dev.kobu.interpreter.error.eval.InvalidCallError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JSON file parser")
+public class JsonFileParserTest extends AstTestBase {
+
+    ModuleScope module;
+
+    RecordTypeSymbol docType;
+
+    @BeforeEach
+    void createModule() {
+        module = module("mod");
+        recordType(module, JsonFileParser.JSON_FILE_TYPE, attributeList(
+                attribute(module, "file", anyType()),
+                attribute(module, "json", anyType())
+        ));
+        docType = recordType(module, "Doc", attributeList(
+                attribute(module, "name", stringType()),
+                attribute(module, "size", numberType()),
+                attribute(module, "pair", tupleType(stringType(), numberType())),
+                attribute(module, "tags", arrayType(stringType())),
+                attribute(module, "my_field", booleanType())
+        ));
+    }
+
+    @Test
+    @DisplayName("JSON file parser -> string escapes")
+    void escapes() throws IOException {
+        var doc = parse("{\"name\": \"a\\u00e9\\/b\\n\\\"q\\\"\\t\\\\\"}");
+        assertEquals("a\u00e9/b\n\"q\"\t\\", ((StringValueExpr) doc.resolveField("name")).getValue());
+    }
+
+    @Test
+    @DisplayName("JSON file parser -> numbers")
+    void numbers() throws IOException {
+        assertEquals(1500.0, number(parse("{\"size\": 1.5e3}")));
+        assertEquals(-0.025, number(parse("{\"size\": -2.5E-2}")));
+        assertEquals(200.0, number(parse("{\"size\": 2e+2}")));
+        assertEquals(0.0, number(parse("{\"size\": 0}")));
+        assertEquals(-12.0, number(parse("{\"size\": -12}")));
+    }
+
+    @Test
+    @DisplayName("JSON file parser -> tuples ignore extra elements")
+    void tupleExtraElements() throws IOException {
+        var doc = parse("{\"pair\": [\"x\", 2, {\"skip\": [1, {\"a\": null}]}, [3, 4], \"y\"]}");
+        List<ValueExpr> pair = ((TupleValueExpr) doc.resolveField("pair")).getValueExprList();
+        assertEquals(2, pair.size());
+        assertEquals("x", ((StringValueExpr) pair.get(0)).getValue());
+        assertEquals(2, ((NumberValueExpr) pair.get(1)).getValue().intValue());
+    }
+
+    @Test
+    @DisplayName("JSON file parser -> unknown fields with nested values are skipped")
+    void skippedNestedValues() throws IOException {
+        var doc = parse("{\"extra\": {\"a\": [1, -2.5e1, {\"b\": [true, false, null]}], \"c\": \"}]\\\"\"},\n" +
+                " \"more\": [[], {}, [{}]], \"my-field\": true, \"tags\": [\"t1\", \"t2\"]}");
+        assertEquals(BooleanValueExpr.TRUE, doc.resolveField("my_field"));
+        List<ValueExpr> tags = ((ArrayValueExpr) doc.resolveField("tags")).getValue();
+        assertEquals(2, tags.size());
+        assertEquals("t2", ((StringValueExpr) tags.get(1)).getValue());
+        assertNull(doc.resolveField("extra"));
+    }
+
+    @Test
+    @DisplayName("JSON file parser -> whitespace after the top-level value")
+    void trailingWhitespace() throws IOException {
+        assertEquals(2.0, number(parse("{\"size\": 2}\n  \r\n\t")));
+    }
+
+    @Test
+    @DisplayName("JSON file parser -> malformed input")
+    void malformedInput() {
+        assertError("{1: 2}", "test.json:1:2: string expected, but got '1'");
+        assertError("{\"name\": \"abc", "test.json:1:14: unterminated string, but got <EOF>");
+        assertError("{\"name\": \"a\nb\"}", "test.json:1:12: unterminated string, but got '\n'");
+        assertError("{\"name\": \"\\u12G4\"}", "test.json:1:15: invalid unicode escape, but got 'G'");
+        assertError("{\"name\": \"\\x\"}", "test.json:1:12: invalid escape sequence, but got 'x'");
+        assertError("{\"size\": 1.}", "test.json:1:12: digit expected, but got '}'");
+        assertError("{\"size\": 1e}", "test.json:1:12: value expected, but got '}'");
+        assertError("{\"size\": -}", "test.json:1:11: value expected, but got '}'");
+        assertError("{\"my_field\": tru}", "test.json:1:17: value expected, but got '}'");
+        assertError("{\"name\" \"a\"}", "test.json:1:9: ':' expected, but got '\"'");
+        assertError("{\"name\": \"a\"", "test.json:1:13: '}' expected, but got <EOF>");
+        assertError("{\"tags\": [\"a\" \"b\"]}", "test.json:1:15: ']' expected, but got '\"'");
+        assertError("{\n  \"extra\": {\"a\" 1}}", "test.json:2:17: ':' expected, but got '1'");
+        assertError("{\"name\": 1}", "name: expected 'string', but got 'number'");
+        assertError("{\"size\": 1} garbage", "test.json:1:13: end of file expected, but got 'g'");
+        assertError("{\"size\": 1}\n}", "test.json:2:1: end of file expected, but got '}'");
+    }
+
+    private RecordValueExpr parse(String json) throws IOException {
+        var parser = new JsonFileParser(module, evalContext(module), docType, "test.json",
+                StandardCharsets.UTF_8, null);
+        var file = (RecordValueExpr) parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        return (RecordValueExpr) file.resolveField("json");
+    }
+
+    private double number(RecordValueExpr doc) {
+        return ((NumberValueExpr) doc.resolveField("size")).getValue().doubleValue();
+    }
+
+    private void assertError(String json, String message) {
+        var error = assertThrows(InvalidCallError.class, () -> parse(json));
+        assertEquals(message, error.getMessage());
+    }
+
+}
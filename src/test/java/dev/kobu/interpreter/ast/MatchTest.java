@@ -0,0 +1,113 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.interpreter.ast;
+
+import dev.kobu.database.index.Match;
+import dev.kobu.interpreter.ast.eval.context.EvalContext;
+import dev.kobu.interpreter.ast.symbol.ModuleScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Match bindings")
+public class MatchTest extends AstTestBase {
+
+    ModuleScope module;
+
+    EvalContext evalContext;
+
+    @BeforeEach
+    void createModule() {
+        module = module("mod");
+        evalContext = evalContext(module);
+    }
+
+    @Test
+    @DisplayName("Context -> built once, on first use, with every binding")
+    void lazyContext() {
+        var match = new Match(evalContext, null, stringVal("a"), "x")
+                .setValue(numberVal(1), "y");
+
+        var context = match.getContext();
+        assertSame(context, match.getContext());
+        assertNotSame(evalContext, context);
+        assertEquals(stringVal("a"), context.getCurrentScope().getValue("x"));
+        assertEquals(numberVal(1), context.getCurrentScope().getValue("y"));
+        assertNull(evalContext.getCurrentScope().resolve("x"));
+    }
+
+    @Test
+    @DisplayName("Context -> derived matches don't change the context of their source")
+    void derivedMatches() {
+        var match = new Match(evalContext, null, stringVal("a"), "x");
+        var context = match.getContext();
+
+        var derived = match.setValue(stringVal("b"), "x");
+        var other = match.setValue(stringVal("c"), "z");
+
+        assertEquals(stringVal("b"), derived.getContext().getCurrentScope().getValue("x"));
+        assertEquals(stringVal("a"), other.getContext().getCurrentScope().getValue("x"));
+        assertEquals(stringVal("c"), other.getContext().getCurrentScope().getValue("z"));
+        assertEquals(stringVal("a"), context.getCurrentScope().getValue("x"));
+        assertNull(context.getCurrentScope().resolve("z"));
+        assertNull(derived.getContext().getCurrentScope().resolve("z"));
+    }
+
+    @Test
+    @DisplayName("Merge -> the right side overrides, but the left bind is applied last")
+    void merge() {
+        var left = new Match(evalContext, null, stringVal("l1"), "a")
+                .setValue(stringVal("l2"), "shared");
+        var right = new Match(evalContext, null, stringVal("r1"), "b")
+                .setValue(stringVal("r2"), "shared");
+
+        var merged = left.merge(right);
+        var scope = merged.getContext().getCurrentScope();
+        assertEquals(stringVal("l1"), scope.getValue("a"));
+        assertEquals(stringVal("r1"), scope.getValue("b"));
+        assertEquals(stringVal("l2"), scope.getValue("shared"));
+
+        var rebound = right.merge(left.setValue(stringVal("l3"), "b"));
+        assertEquals(stringVal("l3"), rebound.getContext().getCurrentScope().getValue("b"));
+        assertEquals(stringVal("r2"), rebound.getContext().getCurrentScope().getValue("shared"));
+    }
+
+    @Test
+    @DisplayName("Snapshot -> computed from the bindings")
+    void snapshot() {
+        var match = new Match(evalContext, null, stringVal("a"), "x")
+                .setValue(numberVal(1), "y");
+
+        assertEquals(match.getSnapshot(), new Match(evalContext, null, stringVal("a"), "x")
+                .setValue(numberVal(1), "y").getSnapshot());
+        assertNotEquals(match.getSnapshot(), new Match(evalContext, null, stringVal("a"), "x")
+                .setValue(numberVal(2), "y").getSnapshot());
+        assertNotEquals(match.getSnapshot(), new Match(evalContext, null, stringVal("a"), "x")
+                .setValue(numberVal(1), "z").getSnapshot());
+    }
+
+}
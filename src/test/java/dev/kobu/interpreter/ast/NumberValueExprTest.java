@@ -0,0 +1,120 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.interpreter.ast;
+
+import dev.kobu.interpreter.ast.eval.EqOperatorEnum;
+import dev.kobu.interpreter.ast.eval.context.EvalContext;
+import dev.kobu.interpreter.ast.eval.expr.AddExpr;
+import dev.kobu.interpreter.ast.eval.expr.EqExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.BooleanValueExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.number.IntegerValueExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.number.NumberValueExpr;
+import dev.kobu.interpreter.ast.symbol.ModuleScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Number values")
+public class NumberValueExprTest extends AstTestBase {
+
+    ModuleScope module;
+
+    EvalContext evalContext;
+
+    @BeforeEach
+    void createModule() {
+        module = module("mod");
+        evalContext = evalContext(module);
+    }
+
+    @Test
+    @DisplayName("Integer cache -> valueOf shares instances only inside the cached range")
+    void valueOfRange() {
+        assertSame(IntegerValueExpr.valueOf(-128), IntegerValueExpr.valueOf(-128));
+        assertSame(IntegerValueExpr.valueOf(0), IntegerValueExpr.valueOf(0));
+        assertSame(IntegerValueExpr.valueOf(1024), IntegerValueExpr.valueOf(1024));
+
+        assertNotSame(IntegerValueExpr.valueOf(-129), IntegerValueExpr.valueOf(-129));
+        assertNotSame(IntegerValueExpr.valueOf(1025), IntegerValueExpr.valueOf(1025));
+        assertEquals(IntegerValueExpr.valueOf(-129), IntegerValueExpr.valueOf(-129));
+        assertEquals(IntegerValueExpr.valueOf(1025), IntegerValueExpr.valueOf(1025));
+        assertEquals(1025, IntegerValueExpr.valueOf(1025).intValue());
+    }
+
+    @Test
+    @DisplayName("Integer cache -> literals are distinct instances but equal to cached values")
+    void literalEquality() {
+        var literal = numberVal(10);
+        var cached = IntegerValueExpr.valueOf(10);
+
+        assertNotSame(cached, literal);
+        assertEquals(cached, literal);
+        assertEquals(literal, cached);
+        assertEquals(cached.hashCode(), literal.hashCode());
+        assertNotEquals(IntegerValueExpr.valueOf(11), literal);
+    }
+
+    @Test
+    @DisplayName("Integer cache -> arithmetic results are cached in range and fresh outside it")
+    void arithmeticResults() {
+        assertSame(IntegerValueExpr.valueOf(7), add(numberVal(3), numberVal(4)));
+        assertSame(IntegerValueExpr.valueOf(1024), IntegerValueExpr.valueOf(1023).inc());
+        assertSame(IntegerValueExpr.valueOf(-128), IntegerValueExpr.valueOf(-127).dec());
+
+        var outside = IntegerValueExpr.valueOf(1024).inc();
+        assertNotSame(IntegerValueExpr.valueOf(1025), outside);
+        assertEquals(IntegerValueExpr.valueOf(1025), outside);
+
+        var sum = add(numberVal(1000), numberVal(1000));
+        assertNotSame(add(numberVal(1000), numberVal(1000)), sum);
+        assertEquals(numberVal(2000), sum);
+    }
+
+    @Test
+    @DisplayName("Integer cache -> == compares values, not instances")
+    void eqComparesValues() {
+        assertTrue(eq(numberVal(5000), numberVal(5000)));
+        assertTrue(eq(IntegerValueExpr.valueOf(5000), numberVal(5000)));
+        assertTrue(eq(IntegerValueExpr.valueOf(5), numberVal(5)));
+        assertTrue(eq(numberVal(5), numberVal(5L)));
+        assertTrue(eq(numberVal(5), numberVal(5.0)));
+        assertFalse(eq(IntegerValueExpr.valueOf(5), IntegerValueExpr.valueOf(6)));
+    }
+
+    private NumberValueExpr add(NumberValueExpr left, NumberValueExpr right) {
+        var addExpr = new AddExpr(sourceCodeRef("add"), left, right);
+        addExpr.analyze(evalContext);
+        return (NumberValueExpr) addExpr.evalExpr(evalContext);
+    }
+
+    private boolean eq(NumberValueExpr left, NumberValueExpr right) {
+        var eqExpr = new EqExpr(sourceCodeRef("eq"), left, EqOperatorEnum.EQUALS, right);
+        eqExpr.analyze(evalContext);
+        return ((BooleanValueExpr) eqExpr.evalExpr(evalContext)).getValue();
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package dev.kobu.interpreter.ast;
+
+import dev.kobu.interpreter.ast.eval.context.EvalContext;
+import dev.kobu.interpreter.ast.eval.expr.AddExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.StringValueExpr;
+import dev.kobu.interpreter.ast.symbol.ModuleScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("String values")
+public class StringValueExprTest extends AstTestBase {
+
+    ModuleScope module;
+
+    EvalContext evalContext;
+
+    @BeforeEach
+    void createModule() {
+        module = module("mod");
+        evalContext = evalContext(module);
+    }
+
+    @Test
+    @DisplayName("Rope -> s = s + piece keeps length and content")
+    void repeatedConcat() {
+        var expected = new StringBuilder();
+        var str = stringVal("");
+        for (int i = 0; i < 100; i++) {
+            var piece = "piece" + i + ";";
+            str = add(str, stringVal(piece));
+            expected.append(piece);
+        }
+
+        assertTrue(expected.length() > 256);
+        assertEquals(expected.length(), str.length());
+        assertEquals(expected.toString(), str.getValue());
+        assertEquals(expected.length(), str.length());
+    }
+
+    @Test
+    @DisplayName("Rope -> equals and hashCode match a flat string")
+    void equalsFlatString() {
+        var str = stringVal("");
+        for (int i = 0; i < 100; i++) {
+            str = add(str, stringVal("abcdef"));
+        }
+        var flat = stringVal("abcdef".repeat(100));
+
+        assertEquals(flat, str);
+        assertEquals(str, flat);
+        assertEquals(flat.hashCode(), str.hashCode());
+        assertNotEquals(stringVal("abcdef".repeat(99) + "abcdeX"), str);
+    }
+
+    @Test
+    @DisplayName("Rope -> deep left chain flattens without overflowing the stack")
+    void deepLeftChain() {
+        var str = stringVal("a".repeat(256));
+        for (int i = 0; i < 200_000; i++) {
+            str = add(str, stringVal("b"));
+        }
+
+        assertEquals(256 + 200_000, str.length());
+        var value = str.getValue();
+        assertEquals(256 + 200_000, value.length());
+        assertTrue(value.startsWith("a".repeat(256) + "b"));
+        assertTrue(value.endsWith("bbb"));
+        assertEquals(stringVal(value).hashCode(), str.hashCode());
+    }
+
+    @Test
+    @DisplayName("Rope -> a null value is concatenated as \"null\"")
+    void concatNullValue() {
+        var longStr = stringVal("a".repeat(300));
+        var nullStr = new StringValueExpr((String) null);
+
+        var str = add(longStr, nullStr);
+        assertEquals("a".repeat(300) + "null", str.getValue());
+        assertEquals(304, str.length());
+
+        str = add(nullStr, longStr);
+        assertEquals("null" + "a".repeat(300), str.getValue());
+        assertEquals(304, str.length());
+
+        assertEquals("nullb", add(nullStr, stringVal("b")).getValue());
+    }
+
+    @Test
+    @DisplayName("Rope -> ropes sharing a child flatten concurrently")
+    void concurrentSharedFlatten() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            var shared = stringVal("s".repeat(256));
+            for (int i = 0; i < 200; i++) {
+                shared = add(shared, stringVal("s"));
+            }
+            var expectedShared = "s".repeat(456);
+
+            var ropes = new ArrayList<StringValueExpr>();
+            ropes.add(shared);
+            for (int i = 0; i < 7; i++) {
+                ropes.add(add(stringVal("p" + i), shared));
+            }
+
+            var executor = Executors.newFixedThreadPool(ropes.size());
+            try {
+                var start = new CountDownLatch(1);
+                var results = new ArrayList<Future<String>>();
+                for (StringValueExpr rope : ropes) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return rope.getValue();
+                    }));
+                }
+                start.countDown();
+
+                assertEquals(expectedShared, results.get(0).get());
+                for (int i = 1; i < results.size(); i++) {
+                    assertEquals("p" + (i - 1) + expectedShared, results.get(i).get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private StringValueExpr add(StringValueExpr left, StringValueExpr right) {
+        var addExpr = new AddExpr(sourceCodeRef("add"), left, right);
+        addExpr.analyze(evalContext);
+        return (StringValueExpr) addExpr.evalExpr(evalContext);
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.interpreter.ast;
+
+import dev.kobu.interpreter.ast.eval.LocalScope;
+import dev.kobu.interpreter.ast.eval.ValueExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.RecordValueExpr;
+import dev.kobu.interpreter.ast.eval.expr.value.TemplateValueExpr;
+import dev.kobu.interpreter.ast.symbol.ModuleScope;
+import dev.kobu.interpreter.ast.symbol.RecordTypeSymbol;
+import dev.kobu.interpreter.ast.symbol.VariableSymbol;
+import dev.kobu.interpreter.ast.template.TemplateCache;
+import dev.kobu.interpreter.ast.template.TemplateExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Template cache")
+public class TemplateCacheTest extends AstTestBase {
+
+    @TempDir
+    Path cacheDir;
+
+    ModuleScope module;
+
+    RecordTypeSymbol nodeType;
+
+    int renders;
+
+    @BeforeEach
+    void createModule() {
+        module = module("mod");
+        nodeType = recordType(module, "Node", attributeList(
+                attribute(module, "name", stringType())
+        ), anyType());
+    }
+
+    @Test
+    @DisplayName("Template cache -> miss renders and stores the entry, hit reads it")
+    void missAndHit() throws IOException {
+        var cache = new TemplateCache(cacheDir, "Script", "src1");
+        var frame = frame("name", stringVal("a"));
+
+        assertEquals("text-a", cache.cached("Rule", frame, executor("text-a")).execute());
+        assertEquals(1, renders);
+        assertEquals(1, entryCount());
+
+        assertEquals("text-a", cache.cached("Rule", frame("name", stringVal("a")), executor("other")).execute());
+        assertEquals(1, renders);
+
+        assertEquals("text-b", cache.cached("Rule", frame("name", stringVal("b")), executor("text-b")).execute());
+        assertEquals("text-b", cache.cached("OtherRule", frame, executor("text-b")).execute());
+        assertEquals(3, renders);
+    }
+
+    @Test
+    @DisplayName("Template cache -> a miss streams to the output and stores the entry")
+    void streamedMiss() throws IOException {
+        var cache = new TemplateCache(cacheDir, "Script", "src1");
+        var out = new StringBuilder();
+
+        cache.cached("Rule", frame("name", stringVal("a")), executor("text-a")).execute(out);
+        assertEquals("text-a", out.toString());
+        assertEquals(1, renders);
+
+        out.setLength(0);
+        cache.cached("Rule", frame("name", stringVal("a")), executor("other")).execute(out);
+        assertEquals("text-a", out.toString());
+        assertEquals(1, renders);
+        assertEquals(1, entryCount());
+    }
+
+    @Test
+    @DisplayName("Template cache -> changed sources invalidate the entries")
+    void sourceChange() {
+        var frame = frame("name", stringVal("a"));
+        new TemplateCache(cacheDir, "Script", "src1").cached("Rule", frame, executor("v1")).execute();
+
+        assertEquals("v2", new TemplateCache(cacheDir, "Script", "src2").cached("Rule", frame, executor("v2")).execute());
+        assertEquals("v1", new TemplateCache(cacheDir, "Script", "src1").cached("Rule", frame, executor("v3")).execute());
+        assertEquals(2, renders);
+    }
+
+    @Test
+    @DisplayName("Template cache -> cyclic records are keyed by content, not by id")
+    void cycleKeying() {
+        var cache = new TemplateCache(cacheDir, "Script", "src1");
+
+        String key1 = cache.key("Rule", frame("node", cycle("a", 10)));
+        String key2 = cache.key("Rule", frame("node", cycle("a", 20)));
+        String key3 = cache.key("Rule", frame("node", cycle("b", 10)));
+
+        assertEquals(key1, key2);
+        assertNotEquals(key1, key3);
+    }
+
+    @Test
+    @DisplayName("Template cache -> nested templates are keyed without rendering them")
+    void nestedTemplateKeying() {
+        var cache = new TemplateCache(cacheDir, "Script", "src1");
+        var nested = new TemplateValueExpr(1, cache.cached("Nested", frame("name", stringVal("a")), executor("n")));
+
+        String key1 = cache.key("Rule", frame("child", nested));
+        var sameNested = new TemplateValueExpr(2, cache.cached("Nested", frame("name", stringVal("a")), executor("n")));
+        var otherNested = new TemplateValueExpr(3, cache.cached("Nested", frame("name", stringVal("b")), executor("n")));
+
+        assertEquals(key1, cache.key("Rule", frame("child", sameNested)));
+        assertNotEquals(key1, cache.key("Rule", frame("child", otherNested)));
+        assertEquals(0, renders);
+    }
+
+    @Test
+    @DisplayName("Template cache -> prune removes the entries not used in the run")
+    void prune() throws IOException {
+        var firstRun = new TemplateCache(cacheDir, "Script", "src1");
+        firstRun.cached("Rule", frame("name", stringVal("a")), executor("text-a")).execute();
+        firstRun.cached("Rule", frame("name", stringVal("b")), executor("text-b")).execute();
+        firstRun.prune();
+        assertEquals(2, entryCount());
+
+        var secondRun = new TemplateCache(cacheDir, "Script", "src1");
+        secondRun.cached("Rule", frame("name", stringVal("a")), executor("text-a")).execute();
+        secondRun.prune();
+        assertEquals(1, entryCount());
+        assertEquals(2, renders);
+    }
+
+    @Test
+    @DisplayName("Template cache -> prune keeps the entries of other scripts and rules")
+    void pruneScope() throws IOException {
+        var firstRun = new TemplateCache(cacheDir, "Script", "src1");
+        firstRun.cached("Rule", frame("name", stringVal("a")), executor("text-a")).execute();
+        firstRun.cached("OtherRule", frame("name", stringVal("a")), executor("other-a")).execute();
+        firstRun.prune();
+
+        var command = new TemplateCache(cacheDir, "Command", "src2");
+        command.cached("Rule", frame("name", stringVal("a")), executor("command-a")).execute();
+        command.prune();
+        assertEquals(3, entryCount());
+
+        var secondRun = new TemplateCache(cacheDir, "Script", "src1");
+        assertEquals("text-a", secondRun.cached("Rule", frame("name", stringVal("a")), executor("x")).execute());
+        secondRun.prune();
+        assertEquals(3, entryCount());
+
+        var changedRun = new TemplateCache(cacheDir, "Script", "src3");
+        changedRun.cached("Rule", frame("name", stringVal("a")), executor("text-a")).execute();
+        changedRun.prune();
+        assertEquals(3, entryCount());
+        assertEquals("other-a", new TemplateCache(cacheDir, "Script", "src1")
+                .cached("OtherRule", frame("name", stringVal("a")), executor("x")).execute());
+        assertEquals(4, renders);
+    }
+
+    @Test
+    @DisplayName("Template cache -> keys are fixed-width hex")
+    void keyWidth() {
+        var cache = new TemplateCache(cacheDir, "Script", "src1");
+        for (int i = 0; i < 50; i++) {
+            String key = cache.key("Rule", frame("name", stringVal("v" + i)));
+            assertTrue(key.matches("[0-9a-f]{64}"), key);
+        }
+    }
+
+    private LocalScope frame(String name, ValueExpr value) {
+        var frame = new LocalScope(module, null);
+        frame.define(analyzerContext, new VariableSymbol(module, name, value.getType()));
+        frame.setValue(name, value);
+        return frame;
+    }
+
+    private RecordValueExpr cycle(String name, int id) {
+        Map<String, ValueExpr> fields = new LinkedHashMap<>();
+        fields.put("name", stringVal(name));
+        var node = new RecordValueExpr(nodeType, fields, id);
+        var next = new RecordValueExpr(nodeType, fields, id + 1);
+        node.updateFieldValue(null, "next", next);
+        next.updateFieldValue(null, "next", node);
+        return node;
+    }
+
+    private TemplateExecutor executor(String text) {
+        return () -> {
+            renders++;
+            return text;
+        };
+    }
+
+    private long entryCount() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.interpreter.ast;
+
+import dev.kobu.database.Database;
+import dev.kobu.database.index.Match;
+import dev.kobu.interpreter.ast.eval.LocalScope;
+import dev.kobu.interpreter.ast.eval.RuleContext;
+import dev.kobu.interpreter.ast.eval.ValueExpr;
+import dev.kobu.interpreter.ast.eval.context.EvalContext;
+import dev.kobu.interpreter.ast.eval.expr.value.RecordValueExpr;
+import dev.kobu.interpreter.ast.symbol.ModuleScope;
+import dev.kobu.interpreter.ast.symbol.RecordTypeSymbol;
+import dev.kobu.interpreter.ast.symbol.RuleSymbol;
+import dev.kobu.interpreter.ast.symbol.VariableSymbol;
+import dev.kobu.interpreter.ast.template.TemplateCache;
+import dev.kobu.interpreter.ast.template.TemplateContentStatement;
+import dev.kobu.interpreter.ast.template.TemplateExecutor;
+import dev.kobu.interpreter.ast.template.TemplateStatement;
+import dev.kobu.interpreter.ast.template.TemplateStaticContentStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Template frame")
+public class TemplateFrameTest extends AstTestBase {
+
+    @TempDir
+    Path cacheDir;
+
+    ModuleScope module;
+
+    Database database;
+
+    RecordTypeSymbol nodeType;
+
+    RuleSymbol rule;
+
+    TemplateStatement template;
+
+    LocalScope frame;
+
+    TemplateExecutor executor;
+
+    @BeforeEach
+    void createModule() {
+        module = module("mod");
+        database = evalContext(module).getDatabase();
+        nodeType = recordType(module, "Node", attributeList(
+                attribute(module, "name", stringType())
+        ), anyType());
+        rule = rule(module, "NodeTemplate", nodeType);
+
+        template = new TemplateStaticContentStatement(sourceCodeRef("static"), "name: ");
+        template.setNext(new TemplateContentStatement(sourceCodeRef("content"), ref(module, "label"), false));
+
+        var analyzeContext = evalContext(module);
+        define(analyzeContext, "unused", stringVal(""));
+        define(analyzeContext, "label", stringVal(""));
+        template.analyze(analyzeContext);
+        assertNoErrors();
+
+        // capture what the template fact keeps, instead of caching it
+        database.setTemplateCache(new TemplateCache(cacheDir, "Script", "src") {
+            @Override
+            public TemplateExecutor cached(String ruleName, LocalScope frame, TemplateExecutor executor) {
+                TemplateFrameTest.this.frame = frame;
+                TemplateFrameTest.this.executor = executor;
+                return executor;
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Frame -> holds only the bindings the template reads")
+    void readBindings() {
+        evalInRule("a", "x".repeat(100));
+
+        assertEquals(stringVal("a"), frame.getValue("label"));
+        assertNull(frame.resolve("unused"));
+        assertEquals("name: a", executor.execute());
+    }
+
+    @Test
+    @DisplayName("Frame -> later changes to the rule bindings don't reach the template")
+    void copiedValues() {
+        var context = ruleContext("a");
+        define(context, "label", stringVal("a"));
+        template.evalStat(context);
+
+        context.getCurrentScope().setValue("label", stringVal("b"));
+        assertEquals("name: a", executor.execute());
+    }
+
+    @Test
+    @DisplayName("Frame -> the rule context can be collected while the template is alive")
+    void detachedContext() throws InterruptedException {
+        var refs = evalInRule("a", "x".repeat(100_000));
+
+        for (WeakReference<?> ref : refs) {
+            awaitCollected(ref);
+        }
+        assertEquals("name: a", executor.execute());
+    }
+
+    private WeakReference<?>[] evalInRule(String label, String unused) {
+        var context = ruleContext(label);
+        var unusedValue = stringVal(unused);
+        define(context, "unused", unusedValue);
+        define(context, "label", stringVal(label));
+        template.evalStat(context);
+
+        return new WeakReference<?>[] {
+                new WeakReference<>(context),
+                new WeakReference<>(context.getRuleContext().getMatch()),
+                new WeakReference<>(unusedValue)
+        };
+    }
+
+    private EvalContext ruleContext(String name) {
+        var node = new RecordValueExpr(nodeType, Map.of("name", stringVal(name)),
+                database.generateRecordId());
+        var match = new Match(evalContext(module), node, node, "rec");
+        return evalContextProvider.newEvalContext(analyzerContext, module, new RuleContext() {
+            @Override
+            public RuleSymbol getRuleSymbol() {
+                return rule;
+            }
+
+            @Override
+            public Match getMatch() {
+                return match;
+            }
+        });
+    }
+
+    private void define(EvalContext context, String name, ValueExpr value) {
+        context.getCurrentScope().define(analyzerContext, new VariableSymbol(module, name, value.getType()));
+        context.getCurrentScope().setValue(name, value);
+    }
+
+    private void awaitCollected(WeakReference<?> ref) throws InterruptedException {
+        for (int i = 0; i < 50 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ref.get());
+    }
+
+}
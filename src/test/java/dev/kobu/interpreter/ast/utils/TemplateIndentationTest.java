@@ -0,0 +1,153 @@
+/*
+MIT License
+
+Copyright (c) 2022 Luiz Mineo
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package dev.kobu.interpreter.ast.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Template indentation")
+public class TemplateIndentationTest {
+
+    private static final char[] ALPHABET = {'a', ' ', '\t', '\n', '\r', '\u2028'};
+
+    @Test
+    @DisplayName("Insertion index -> column after the last line break")
+    void insertionIndex() {
+        assertEquals(0, TemplateIndentation.getInsertionIndex("", true));
+        assertEquals(0, TemplateIndentation.getInsertionIndex("abc", false));
+        assertEquals(4, TemplateIndentation.getInsertionIndex("line\n    ", true));
+        assertEquals(4, TemplateIndentation.getInsertionIndex("line\n    text", true));
+        assertEquals(8, TemplateIndentation.getInsertionIndex("line\n    text", false));
+        assertEquals(2, TemplateIndentation.getInsertionIndex("a\n  b\n  c", true));
+        assertEquals(2, TemplateIndentation.getInsertionIndex("a\r\n  b\r\n", true));
+        assertEquals(0, TemplateIndentation.getInsertionIndex("a\n", false));
+    }
+
+    @Test
+    @DisplayName("Insertion index -> a sub-range gives the same result as the substring")
+    void insertionIndexRange() {
+        var str = "head\n  body\n    tail";
+        for (int from = 0; from <= str.length(); from++) {
+            for (int to = from; to <= str.length(); to++) {
+                var sub = str.substring(from, to);
+                assertEquals(TemplateIndentation.getInsertionIndex(sub, true),
+                        TemplateIndentation.getInsertionIndex(str, from, to, true), sub);
+                assertEquals(TemplateIndentation.getInsertionIndex(sub, false),
+                        TemplateIndentation.getInsertionIndex(str, from, to, false), sub);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Trim -> normalizes CRLF and drops one leading and the trailing line breaks")
+    void trim() {
+        assertEquals("", TemplateIndentation.trim(""));
+        assertEquals("abc", TemplateIndentation.trim("abc"));
+        assertEquals("abc", TemplateIndentation.trim("\r\nabc\r\n"));
+        assertEquals("\nabc", TemplateIndentation.trim("\n\nabc\n\n"));
+        assertEquals("a\n\nb", TemplateIndentation.trim("\na\n\nb\n"));
+        assertEquals("", TemplateIndentation.trim("\n"));
+    }
+
+    @Test
+    @DisplayName("Indent -> margin follows every line break")
+    void indent() {
+        assertEquals("a\n  b", TemplateIndentation.indent("a\nb", 2, false));
+        assertEquals("a\r\n  b", TemplateIndentation.indent("a\r\nb", 2, false));
+        assertEquals("a\n  b", TemplateIndentation.indent("a\r\nb", 2, true));
+        assertEquals("a\n  b", TemplateIndentation.indent("\na\nb\n", 2, true));
+        assertEquals("\n  \n  ", TemplateIndentation.indent("\n\n", 2, false));
+        assertEquals("a\nb\n", TemplateIndentation.indent("a\nb\n", 0, false));
+    }
+
+    @Test
+    @DisplayName("Scanner -> matches the regex implementation on random text")
+    void matchesRegex() {
+        var random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            var str = randomText(random, 10);
+
+            assertEquals(regexInsertionIndex(str, true), TemplateIndentation.getInsertionIndex(str, true), escape(str));
+            assertEquals(regexInsertionIndex(str, false), TemplateIndentation.getInsertionIndex(str, false), escape(str));
+            assertEquals(regexIndent(str, 3, true), TemplateIndentation.indent(str, 3, true), escape(str));
+            assertEquals(regexIndent(str, 3, false), TemplateIndentation.indent(str, 3, false), escape(str));
+        }
+    }
+
+    @Test
+    @DisplayName("Tail start -> dropping the prefix keeps the insertion index for any continuation")
+    void insertionTailStart() {
+        var random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            var str = randomText(random, 10);
+            var tail = str.substring(TemplateIndentation.getInsertionTailStart(str));
+            var next = randomText(random, 4);
+
+            assertEquals(TemplateIndentation.getInsertionIndex(str + next, true),
+                    TemplateIndentation.getInsertionIndex(tail + next, true), escape(str + next));
+        }
+    }
+
+    private String randomText(Random random, int maxLength) {
+        var out = new StringBuilder();
+        int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            out.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return out.toString();
+    }
+
+    private String escape(String str) {
+        return str.replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t").replace("\u2028", "\\u2028");
+    }
+
+    // the implementation the scanner replaced
+    private int regexInsertionIndex(String str, boolean fromInit) {
+        var pattern = fromInit ? Pattern.compile("(\\n[\\s]*).*$") : Pattern.compile("(\\n.*)$");
+        var matcher = pattern.matcher(str);
+        if (matcher.find()) {
+            return matcher.group(1).length() - 1;
+        }
+        return 0;
+    }
+
+    private String regexIndent(String str, int margin, boolean trim) {
+        String marginStr = "\n" + " ".repeat(margin);
+        if (trim) {
+            return str
+                    .replaceAll("\\r\\n", "\n")
+                    .replaceAll("^\\n", "")
+                    .replaceAll("\\n$", "")
+                    .replaceAll("\\n", marginStr);
+        }
+        return str.replaceAll("\\n", marginStr);
+    }
+
+}